@@ -0,0 +1,93 @@
+package com.fraud.detection.benchmark;
+
+import com.fraud.detection.FraudDetectionApplication;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.dto.TransactionAnalysisResponse;
+import com.fraud.detection.service.FraudDetectionService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * analyzeTransaction 종단 간 비용
+ * 로컬 스텁 ML 서버(고정 응답)와 H2 내장 DB로 실제 애플리케이션 컨텍스트를 띄워 측정
+ *
+ * ML 호출(HTTP 왕복 + JSON), 서킷 브레이커, ID 발급, write-behind 대기열 투입까지 포함하며
+ * 웹 서버(Tomcat)와 요청 본문 파싱은 제외 (JsonSerdeBenchmark, ValidationBenchmark 참고)
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AnalyzeEndToEndBenchmark {
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private ConfigurableApplicationContext context;
+    private FraudDetectionService fraudDetectionService;
+    private TransactionAnalysisRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(8);
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/api/predict", AnalyzeEndToEndBenchmark::predict);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        context = new SpringApplicationBuilder(FraudDetectionApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.enabled=false",
+                        "ml.engine=remote",
+                        "ml.api.url=http://127.0.0.1:" + stubServer.getAddress().getPort(),
+                        "ml.batch.enabled=false",
+                        "app.score-cache.enabled=false",
+                        "app.admission.enabled=false",
+                        "logging.level.com.fraud.detection=WARN"
+                )
+                .run();
+        fraudDetectionService = context.getBean(FraudDetectionService.class);
+        request = BenchmarkFixtures.sampleRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public TransactionAnalysisResponse analyzeTransaction() {
+        return fraudDetectionService.analyzeTransaction(request);
+    }
+
+    private static void predict(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, BenchmarkFixtures.ML_RESPONSE_JSON.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(BenchmarkFixtures.ML_RESPONSE_JSON);
+        }
+    }
+}
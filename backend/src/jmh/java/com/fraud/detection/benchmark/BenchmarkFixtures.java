@@ -0,0 +1,51 @@
+package com.fraud.detection.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크 공용 입력 데이터
+ */
+final class BenchmarkFixtures {
+
+    /** ML API 단건 예측 응답 (FastAPI /api/predict 형식) */
+    static final byte[] ML_RESPONSE_JSON = ("{\"is_fraud\":false,\"fraud_probability\":0.12," +
+            "\"risk_level\":\"LOW\",\"timestamp\":\"2024-12-15T14:30:00.123456\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * README의 정상 거래 샘플과 같은 요청
+     */
+    static TransactionAnalysisRequest sampleRequest() {
+        return TransactionAnalysisRequest.builder()
+                .amount(75000.0)
+                .transactionCount1h(2)
+                .transactionCount24h(5)
+                .differentMerchants24h(3)
+                .avgTransactionAmount(50000.0)
+                .timeSinceLastTransaction(3600.0)
+                .isWeekend(0)
+                .isNightTime(0)
+                .merchantRiskScore(0.25)
+                .cardAgeDays(365.0)
+                .transactionVelocity(1.5)
+                .amountDeviation(0.8)
+                .crossBorder(0)
+                .deviceChange(0)
+                .ipChange(0)
+                .build();
+    }
+
+    /**
+     * Spring MVC 기본 설정과 같은 ObjectMapper (JavaTimeModule 등록, 날짜는 ISO 문자열)
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+}
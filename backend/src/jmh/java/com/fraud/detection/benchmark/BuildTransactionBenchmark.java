@@ -0,0 +1,38 @@
+package com.fraud.detection.benchmark;
+
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.ScoringPath;
+import com.fraud.detection.service.TransactionMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 결과 → Transaction 엔티티 변환 비용 (FraudDetectionService.buildTransaction)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BuildTransactionBenchmark {
+
+    private TransactionAnalysisRequest request;
+    private MLApiResponse mlResponse;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkFixtures.sampleRequest();
+        mlResponse = MLApiResponse.builder()
+                .isFraud(false)
+                .fraudProbability(0.12)
+                .riskLevel("LOW")
+                .build();
+    }
+
+    @Benchmark
+    public Transaction buildTransaction() {
+        return TransactionMapper.toTransaction(++nextId, request, mlResponse, ScoringPath.REMOTE_MODEL);
+    }
+}
@@ -0,0 +1,89 @@
+package com.fraud.detection.benchmark;
+
+import com.fraud.detection.velocity.CardVelocityStore;
+import com.fraud.detection.velocity.VelocityFeatures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드별 거래 속도 저장소 처리량 및 힙 사용량
+ * activeCards개의 카드에 eventsPerCard건씩 이력을 채운 뒤 임의 카드에 거래를 기록
+ *
+ * 처리량: ./gradlew jmh -PjmhIncludes=CardVelocityStore (4개 스레드 동시 기록)
+ * 힙 사용량: 설정 단계에서 실측(GC 후 사용 힙 차이)과 저장소 추정치를 함께 출력
+ *           카드 ID 문자열은 측정 전에 만들어 두므로 실측에서는 빠지고 추정치에는 포함됨
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class CardVelocityStoreBenchmark {
+
+    private static final int MERCHANTS = 10_000;
+
+    @Param({"1000000", "3000000"})
+    private int activeCards;
+
+    @Param({"5"})
+    private int eventsPerCard;
+
+    private CardVelocityStore store;
+    private String[] cardIds;
+    private String[] merchantIds;
+    private long baseSecond;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cardIds = new String[activeCards];
+        for (int i = 0; i < activeCards; i++) {
+            cardIds[i] = "card-" + i;
+        }
+        merchantIds = new String[MERCHANTS];
+        for (int i = 0; i < MERCHANTS; i++) {
+            merchantIds[i] = "merchant-" + i;
+        }
+
+        long before = usedHeap();
+        store = new CardVelocityStore(256, 86400);
+        baseSecond = Instant.now().getEpochSecond() - 3600;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int e = 0; e < eventsPerCard; e++) {
+            Instant timestamp = Instant.ofEpochSecond(baseSecond + e * 600L);
+            for (String cardId : cardIds) {
+                store.record(cardId, merchantIds[random.nextInt(MERCHANTS)], 10000 + random.nextInt(90000), timestamp);
+            }
+        }
+        long measured = usedHeap() - before;
+        store.evictExpired(Instant.ofEpochSecond(baseSecond + 3600));
+
+        System.out.printf("%n[CardVelocityStore] 카드 %,d개 × %d건: 실측 %,d MB (%,d B/카드), 추정 %,d MB%n",
+                activeCards, eventsPerCard,
+                measured >> 20, measured / activeCards,
+                store.getEstimatedHeapBytes() >> 20);
+    }
+
+    @Benchmark
+    public VelocityFeatures record() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return store.record(
+                cardIds[random.nextInt(activeCards)],
+                merchantIds[random.nextInt(MERCHANTS)],
+                10000 + random.nextInt(90000),
+                Instant.ofEpochSecond(baseSecond + 3600 + random.nextInt(60)));
+    }
+
+    /**
+     * GC 후 사용 중인 힙
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,64 @@
+package com.fraud.detection.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.dto.TransactionAnalysisResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 경계의 JSON 직렬화/역직렬화 비용
+ * 요청 본문 읽기, ML 응답 읽기, 분석 응답 쓰기
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JsonSerdeBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter requestWriter;
+    private ObjectReader mlResponseReader;
+    private ObjectWriter responseWriter;
+
+    private byte[] requestJson;
+    private TransactionAnalysisRequest request;
+    private TransactionAnalysisResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        requestReader = objectMapper.readerFor(TransactionAnalysisRequest.class);
+        requestWriter = objectMapper.writerFor(TransactionAnalysisRequest.class);
+        mlResponseReader = objectMapper.readerFor(MLApiResponse.class);
+        responseWriter = objectMapper.writerFor(TransactionAnalysisResponse.class);
+
+        request = BenchmarkFixtures.sampleRequest();
+        requestJson = requestWriter.writeValueAsBytes(request);
+        response = TransactionAnalysisResponse.success(1L, false, 0.12, "LOW", "REMOTE_MODEL", "20241215-143000");
+    }
+
+    @Benchmark
+    public TransactionAnalysisRequest readRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() throws IOException {
+        return requestWriter.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public MLApiResponse readMLResponse() throws IOException {
+        return mlResponseReader.readValue(BenchmarkFixtures.ML_RESPONSE_JSON);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
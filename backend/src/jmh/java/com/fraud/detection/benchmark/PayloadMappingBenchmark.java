@@ -0,0 +1,71 @@
+package com.fraud.detection.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.ml.FeatureVector;
+import com.fraud.detection.ml.RemoteFraudScorer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 DTO → ML API 요청 본문 변환 비용 (RemoteFraudScorer가 /api/predict로 보내는 본문)
+ *
+ * buildMapRequestBody는 특성마다 박싱된 값을 맵에 담아 직렬화하던 방식의 비교 기준
+ * 호출당 할당량 비교: ./gradlew jmh -PjmhIncludes=PayloadMapping -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PayloadMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TransactionAnalysisRequest request;
+    private double[] features;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        request = BenchmarkFixtures.sampleRequest();
+        features = FeatureVector.from(request);
+    }
+
+    @Benchmark
+    public double[] mapToFeatureVector() {
+        return FeatureVector.from(request);
+    }
+
+    @Benchmark
+    public byte[] writeFeatureVector() {
+        return RemoteFraudScorer.encode(features);
+    }
+
+    @Benchmark
+    public byte[] buildRequestBody() {
+        return RemoteFraudScorer.encode(FeatureVector.from(request));
+    }
+
+    @Benchmark
+    public byte[] buildMapRequestBody() throws JsonProcessingException {
+        Map<String, Object> body = new HashMap<>();
+        body.put("amount", request.getAmount());
+        body.put("transaction_count_1h", request.getTransactionCount1h());
+        body.put("transaction_count_24h", request.getTransactionCount24h());
+        body.put("different_merchants_24h", request.getDifferentMerchants24h());
+        body.put("avg_transaction_amount", request.getAvgTransactionAmount());
+        body.put("time_since_last_transaction", request.getTimeSinceLastTransaction());
+        body.put("is_weekend", request.getIsWeekend());
+        body.put("is_night_time", request.getIsNightTime());
+        body.put("merchant_risk_score", request.getMerchantRiskScore());
+        body.put("card_age_days", request.getCardAgeDays());
+        body.put("transaction_velocity", request.getTransactionVelocity());
+        body.put("amount_deviation", request.getAmountDeviation());
+        body.put("cross_border", request.getCrossBorder());
+        body.put("device_change", request.getDeviceChange());
+        body.put("ip_change", request.getIpChange());
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
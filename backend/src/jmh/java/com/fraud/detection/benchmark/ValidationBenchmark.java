@@ -0,0 +1,50 @@
+package com.fraud.detection.benchmark;
+
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 검증 (@Valid TransactionAnalysisRequest) 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TransactionAnalysisRequest valid;
+    private TransactionAnalysisRequest invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkFixtures.sampleRequest();
+        invalid = BenchmarkFixtures.sampleRequest();
+        invalid.setAmount(-1.0);
+        invalid.setMerchantRiskScore(1.5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionAnalysisRequest>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionAnalysisRequest>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fraud.detection.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.MLBatchResponse;
+import com.fraud.detection.ml.FeatureVector;
+import com.fraud.detection.ml.MsgpackFraudScorer;
+import com.fraud.detection.ml.RemoteFraudScorer;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백엔드 ↔ ML 서버 전송 형식 비교 (JSON /api/batch-predict vs MessagePack /api/vector-predict)
+ * 배치 요청 인코딩과 응답 디코딩 비용, 건당 바이트 수는 setUp에서 출력
+ *
+ * 건당 할당량까지 보려면: ./gradlew jmh -PjmhIncludes=WireFormatBenchmark -PjmhProfilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    private ObjectReader batchResponseReader;
+
+    private List<double[]> features;
+    private byte[] jsonResponse;
+    private byte[] msgpackResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+        batchResponseReader = objectMapper.readerFor(MLBatchResponse.class);
+
+        features = Collections.nCopies(batchSize, FeatureVector.from(BenchmarkFixtures.sampleRequest()));
+
+        // FastAPI /api/batch-predict 응답 형식 (건별 결과 + 배치 시각)
+        StringBuilder json = new StringBuilder("{\"results\":[");
+        for (int i = 0; i < batchSize; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"is_fraud\":false,\"fraud_probability\":0.12,\"risk_level\":\"LOW\"}");
+        }
+        json.append("],\"timestamp\":\"2024-12-15T14:30:00.123456\"}");
+        jsonResponse = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        // /api/vector-predict 응답 형식 (float64 확률 배열)
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packArrayHeader(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                packer.packDouble(0.12);
+            }
+            msgpackResponse = packer.toByteArray();
+        }
+
+        int jsonRequestBytes = encodeJson().length;
+        int msgpackRequestBytes = encodeMsgpack().length;
+        System.out.printf("%n[batchSize=%d] 건당 요청 바이트 JSON=%d, MessagePack=%d / 건당 응답 바이트 JSON=%d, MessagePack=%d%n",
+                batchSize,
+                jsonRequestBytes / batchSize, msgpackRequestBytes / batchSize,
+                jsonResponse.length / batchSize, msgpackResponse.length / batchSize);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return RemoteFraudScorer.encodeBatch(features);
+    }
+
+    @Benchmark
+    public byte[] encodeMsgpack() {
+        return MsgpackFraudScorer.encode(features);
+    }
+
+    @Benchmark
+    public MLBatchResponse decodeJson() throws IOException {
+        return batchResponseReader.readValue(jsonResponse);
+    }
+
+    @Benchmark
+    public List<MLApiResponse> decodeMsgpack() {
+        return MsgpackFraudScorer.decode(msgpackResponse, batchSize, "benchmark");
+    }
+}
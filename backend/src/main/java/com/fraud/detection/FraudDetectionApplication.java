@@ -2,8 +2,7 @@ package com.fraud.detection;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * AI 기반 이상거래 탐지 시스템
@@ -13,6 +12,7 @@ import org.springframework.web.client.RestTemplate;
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling
 public class FraudDetectionApplication {
 
     public static void main(String[] args) {
@@ -26,9 +26,4 @@ public class FraudDetectionApplication {
         System.out.println("  - REST API: http://localhost:8080");
         System.out.println("=".repeat(80));
     }
-
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
 }
@@ -0,0 +1,82 @@
+package com.fraud.detection.archive;
+
+import com.fraud.detection.entity.Transaction;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 아카이브 세그먼트의 컬럼 정의 (선언 순서가 파일 내 컬럼 순서)
+ * 컬럼을 추가하면 ArchiveSegment.VERSION을 올려야 함
+ */
+enum ArchiveColumn {
+
+    ID(Type.LONG, Transaction::getId, (t, v) -> t.setId((Long) v)),
+    CREATED_AT(Type.TIME, Transaction::getCreatedAt, (t, v) -> t.setCreatedAt((LocalDateTime) v)),
+    UPDATED_AT(Type.TIME, Transaction::getUpdatedAt, (t, v) -> t.setUpdatedAt((LocalDateTime) v)),
+    AMOUNT(Type.DOUBLE, Transaction::getAmount, (t, v) -> t.setAmount((Double) v)),
+    TRANSACTION_COUNT_1H(Type.INT, Transaction::getTransactionCount1h, (t, v) -> t.setTransactionCount1h((Integer) v)),
+    TRANSACTION_COUNT_24H(Type.INT, Transaction::getTransactionCount24h, (t, v) -> t.setTransactionCount24h((Integer) v)),
+    DIFFERENT_MERCHANTS_24H(Type.INT, Transaction::getDifferentMerchants24h, (t, v) -> t.setDifferentMerchants24h((Integer) v)),
+    AVG_TRANSACTION_AMOUNT(Type.DOUBLE, Transaction::getAvgTransactionAmount, (t, v) -> t.setAvgTransactionAmount((Double) v)),
+    TIME_SINCE_LAST_TRANSACTION(Type.DOUBLE, Transaction::getTimeSinceLastTransaction, (t, v) -> t.setTimeSinceLastTransaction((Double) v)),
+    IS_WEEKEND(Type.INT, Transaction::getIsWeekend, (t, v) -> t.setIsWeekend((Integer) v)),
+    IS_NIGHT_TIME(Type.INT, Transaction::getIsNightTime, (t, v) -> t.setIsNightTime((Integer) v)),
+    MERCHANT_RISK_SCORE(Type.DOUBLE, Transaction::getMerchantRiskScore, (t, v) -> t.setMerchantRiskScore((Double) v)),
+    CARD_AGE_DAYS(Type.DOUBLE, Transaction::getCardAgeDays, (t, v) -> t.setCardAgeDays((Double) v)),
+    TRANSACTION_VELOCITY(Type.DOUBLE, Transaction::getTransactionVelocity, (t, v) -> t.setTransactionVelocity((Double) v)),
+    AMOUNT_DEVIATION(Type.DOUBLE, Transaction::getAmountDeviation, (t, v) -> t.setAmountDeviation((Double) v)),
+    CROSS_BORDER(Type.INT, Transaction::getCrossBorder, (t, v) -> t.setCrossBorder((Integer) v)),
+    DEVICE_CHANGE(Type.INT, Transaction::getDeviceChange, (t, v) -> t.setDeviceChange((Integer) v)),
+    IP_CHANGE(Type.INT, Transaction::getIpChange, (t, v) -> t.setIpChange((Integer) v)),
+    IS_FRAUD(Type.BOOLEAN, Transaction::getIsFraud, (t, v) -> t.setIsFraud((Boolean) v)),
+    FRAUD_PROBABILITY(Type.DOUBLE, Transaction::getFraudProbability, (t, v) -> t.setFraudProbability((Double) v)),
+    RISK_LEVEL(Type.STRING, Transaction::getRiskLevel, (t, v) -> t.setRiskLevel((String) v)),
+    SCORING_PATH(Type.STRING, Transaction::getScoringPath, (t, v) -> t.setScoringPath((String) v)),
+    MODEL_VERSION(Type.STRING, Transaction::getModelVersion, (t, v) -> t.setModelVersion((String) v));
+
+    /**
+     * 컬럼 인코딩 (null은 각 타입의 예약값으로 기록)
+     *
+     * - LONG / TIME: 직전 행과의 차이 (정렬된 ID와 시각은 작은 값이 반복되어 압축률이 높음), TIME은 UTC 기준 epoch 마이크로초
+     * - DOUBLE: IEEE 754 8바이트 (null은 NaN)
+     * - INT: 4바이트 (null은 Integer.MIN_VALUE)
+     * - BOOLEAN: 1바이트 (1 / 0, null은 -1)
+     * - STRING: 행마다 2바이트 사전 코드 + 블록 끝에 사전 (null은 0xFFFF)
+     */
+    enum Type { LONG, TIME, DOUBLE, INT, BOOLEAN, STRING }
+
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final byte NULL_BOOLEAN = -1;
+    static final char NULL_CODE = 0xFFFF;
+
+    final Type type;
+    private final Function<Transaction, ?> getter;
+    private final BiConsumer<Transaction, Object> setter;
+
+    ArchiveColumn(Type type, Function<Transaction, ?> getter, BiConsumer<Transaction, Object> setter) {
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    Object get(Transaction transaction) {
+        return getter.apply(transaction);
+    }
+
+    void set(Transaction transaction, Object value) {
+        setter.accept(transaction, value);
+    }
+
+    static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,15 @@
+package com.fraud.detection.archive;
+
+/**
+ * 아카이브 집계용 행 방문자
+ * 엔티티를 만들지 않고 집계에 쓰이는 컬럼 값만 전달 (null 정수는 Integer.MIN_VALUE, null 실수는 NaN)
+ */
+@FunctionalInterface
+public interface ArchiveRowVisitor {
+
+    /**
+     * @param createdAtEpochSecond 생성 시각 (LocalDateTime을 UTC로 간주한 epoch 초)
+     */
+    void visit(long createdAtEpochSecond, boolean fraud, String riskLevel,
+               int crossBorder, int deviceChange, int ipChange, double merchantRiskScore);
+}
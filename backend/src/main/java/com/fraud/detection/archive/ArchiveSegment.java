@@ -0,0 +1,408 @@
+package com.fraud.detection.archive;
+
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.entity.Transaction;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 하루치 거래를 담은 읽기 전용 컬럼형 세그먼트 파일
+ * 파일 전체를 메모리 매핑하고, 조회에 필요한 컬럼 블록만 그때그때 압축 해제
+ *
+ * 파일 구조 (빅 엔디언)
+ * - 헤더: 매직, 버전, 날짜, 행 수, 이상거래 수, ID / createdAt / 금액 / 확률의 최소·최대값, 위험도 레벨별 건수
+ * - 컬럼 디렉터리: 컬럼별 블록 위치, 압축 크기, 원본 크기
+ * - 컬럼 블록: ArchiveColumn 순서의 Deflate 압축 블록
+ *
+ * 행은 (createdAt, id) 오름차순으로 저장되며, 헤더 통계만으로 조회 조건과 겹치지 않는 세그먼트를 건너뜀
+ */
+public final class ArchiveSegment {
+
+    static final int MAGIC = 0x46545841; // "FTXA"
+    static final int VERSION = 1;
+    static final int FIXED_HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 8 * 4 + 8 * 4 + 4 + 4;
+    static final int DIRECTORY_ENTRY_BYTES = 8 + 4 + 4;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final LocalDate day;
+    private final int rowCount;
+    private final int fraudCount;
+    private final long minId;
+    private final long maxId;
+    private final long minCreatedAt;
+    private final long maxCreatedAt;
+    private final Map<String, Long> riskLevelCounts;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final int[] rawLengths;
+
+    private ArchiveSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        ByteBuffer header = buffer.duplicate();
+        if (header.getInt() != MAGIC) {
+            throw corrupted("매직 넘버 불일치");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw corrupted("지원하지 않는 버전 " + version);
+        }
+        this.day = LocalDate.ofEpochDay(header.getLong());
+        this.rowCount = header.getInt();
+        this.fraudCount = header.getInt();
+        this.minId = header.getLong();
+        this.maxId = header.getLong();
+        this.minCreatedAt = header.getLong();
+        this.maxCreatedAt = header.getLong();
+        // 금액 / 확률 최소·최대값 (현재 조회 조건에는 쓰이지 않아 건너뜀)
+        header.position(header.position() + 4 * Double.BYTES);
+
+        int riskLevels = header.getInt();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < riskLevels; i++) {
+            byte[] encoded = new byte[header.getShort()];
+            header.get(encoded);
+            counts.put(new String(encoded, StandardCharsets.UTF_8), header.getLong());
+        }
+        this.riskLevelCounts = Collections.unmodifiableMap(counts);
+
+        int columnCount = header.getInt();
+        if (columnCount != ArchiveColumn.values().length) {
+            throw corrupted("컬럼 수 불일치 " + columnCount);
+        }
+        this.blockOffsets = new long[columnCount];
+        this.blockLengths = new int[columnCount];
+        this.rawLengths = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            blockOffsets[i] = header.getLong();
+            blockLengths[i] = header.getInt();
+            rawLengths[i] = header.getInt();
+            if (blockOffsets[i] + blockLengths[i] > buffer.capacity()) {
+                throw corrupted("컬럼 블록이 파일 범위를 벗어남");
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 읽기 전용으로 매핑 (매핑은 채널을 닫은 뒤에도 유지)
+     */
+    public static ArchiveSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 파일이 2GB를 초과합니다: " + path);
+            }
+            return new ArchiveSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getFraudCount() {
+        return fraudCount;
+    }
+
+    public long getMinId() {
+        return minId;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public Map<String, Long> getRiskLevelCounts() {
+        return riskLevelCounts;
+    }
+
+    public long getSizeBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * [from, to] 구간과 before 커서 이전에 이상거래가 있을 수 있는지 (헤더 통계만으로 판단)
+     * 시각은 모두 UTC 기준 epoch 마이크로초
+     */
+    boolean mayContainFraud(long from, long to, long before) {
+        return fraudCount > 0 && minCreatedAt <= to && maxCreatedAt >= from && minCreatedAt <= before;
+    }
+
+    /**
+     * [from, to] 구간에서 (createdAt, id)가 (before, beforeId)보다 작은 이상거래 요약 ((createdAt, id) 오름차순)
+     */
+    List<TransactionSummary> fraudSummaries(long from, long to, long before, long beforeId) {
+        if (!mayContainFraud(from, to, before)) {
+            return List.of();
+        }
+        long[] createdAt = longs(ArchiveColumn.CREATED_AT);
+        long[] ids = longs(ArchiveColumn.ID);
+        byte[] isFraud = bytes(ArchiveColumn.IS_FRAUD);
+        int[] rows = select(createdAt, ids, isFraud, from, to, before, beforeId);
+        if (rows.length == 0) {
+            return List.of();
+        }
+
+        double[] amount = doubles(ArchiveColumn.AMOUNT);
+        double[] probability = doubles(ArchiveColumn.FRAUD_PROBABILITY);
+        String[] riskLevel = strings(ArchiveColumn.RISK_LEVEL);
+        String[] scoringPath = strings(ArchiveColumn.SCORING_PATH);
+
+        List<TransactionSummary> summaries = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            summaries.add(new TransactionSummary(
+                    ids[row],
+                    (Double) value(ArchiveColumn.Type.DOUBLE, amount, row),
+                    Boolean.TRUE,
+                    (Double) value(ArchiveColumn.Type.DOUBLE, probability, row),
+                    riskLevel[row],
+                    scoringPath[row],
+                    ArchiveColumn.fromMicros(createdAt[row])));
+        }
+        return summaries;
+    }
+
+    /**
+     * [from, to] 구간의 이상거래 전체 컬럼 ((createdAt, id) 오름차순)
+     */
+    List<Transaction> fraudTransactions(long from, long to) {
+        if (!mayContainFraud(from, to, Long.MAX_VALUE)) {
+            return List.of();
+        }
+        int[] rows = select(longs(ArchiveColumn.CREATED_AT), longs(ArchiveColumn.ID), bytes(ArchiveColumn.IS_FRAUD),
+                from, to, Long.MAX_VALUE, Long.MAX_VALUE);
+        if (rows.length == 0) {
+            return List.of();
+        }
+
+        Object[] decoded = decodeAll();
+        List<Transaction> transactions = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            transactions.add(materialize(decoded, row));
+        }
+        return transactions;
+    }
+
+    /**
+     * 모든 행 ((createdAt, id) 오름차순), 컬럼은 한 번에 압축 해제하고 엔티티는 순회하며 생성
+     */
+    Iterator<Transaction> rows() {
+        Object[] decoded = decodeAll();
+        return new Iterator<>() {
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return row < rowCount;
+            }
+
+            @Override
+            public Transaction next() {
+                if (row >= rowCount) {
+                    throw new NoSuchElementException();
+                }
+                return materialize(decoded, row++);
+            }
+        };
+    }
+
+    /**
+     * 집계에 쓰이는 컬럼만 압축 해제하여 모든 행을 전달
+     */
+    void scan(ArchiveRowVisitor visitor) {
+        long[] createdAt = longs(ArchiveColumn.CREATED_AT);
+        byte[] isFraud = bytes(ArchiveColumn.IS_FRAUD);
+        String[] riskLevel = strings(ArchiveColumn.RISK_LEVEL);
+        int[] crossBorder = ints(ArchiveColumn.CROSS_BORDER);
+        int[] deviceChange = ints(ArchiveColumn.DEVICE_CHANGE);
+        int[] ipChange = ints(ArchiveColumn.IP_CHANGE);
+        double[] merchantRiskScore = doubles(ArchiveColumn.MERCHANT_RISK_SCORE);
+        for (int row = 0; row < rowCount; row++) {
+            visitor.visit(Math.floorDiv(createdAt[row], 1_000_000L), isFraud[row] == 1, riskLevel[row],
+                    crossBorder[row], deviceChange[row], ipChange[row], merchantRiskScore[row]);
+        }
+    }
+
+    private int[] select(long[] createdAt, long[] ids, byte[] isFraud,
+                         long from, long to, long before, long beforeId) {
+        int[] rows = new int[fraudCount];
+        int count = 0;
+        for (int row = 0; row < rowCount && count < rows.length; row++) {
+            long time = createdAt[row];
+            if (time > to || time > before) {
+                break;
+            }
+            if (isFraud[row] == 1 && time >= from && (time < before || ids[row] < beforeId)) {
+                rows[count++] = row;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    private Object[] decodeAll() {
+        ArchiveColumn[] columns = ArchiveColumn.values();
+        Object[] decoded = new Object[columns.length];
+        for (ArchiveColumn column : columns) {
+            decoded[column.ordinal()] = decode(column);
+        }
+        return decoded;
+    }
+
+    private static Transaction materialize(Object[] decoded, int row) {
+        Transaction transaction = new Transaction();
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            column.set(transaction, value(column.type, decoded[column.ordinal()], row));
+        }
+        return transaction;
+    }
+
+    private static Object value(ArchiveColumn.Type type, Object values, int row) {
+        switch (type) {
+            case LONG -> {
+                long value = ((long[]) values)[row];
+                return value == ArchiveColumn.NULL_LONG ? null : value;
+            }
+            case TIME -> {
+                long value = ((long[]) values)[row];
+                return value == ArchiveColumn.NULL_LONG ? null : ArchiveColumn.fromMicros(value);
+            }
+            case DOUBLE -> {
+                double value = ((double[]) values)[row];
+                return Double.isNaN(value) ? null : value;
+            }
+            case INT -> {
+                int value = ((int[]) values)[row];
+                return value == ArchiveColumn.NULL_INT ? null : value;
+            }
+            case BOOLEAN -> {
+                byte value = ((byte[]) values)[row];
+                return value == ArchiveColumn.NULL_BOOLEAN ? null : value == 1;
+            }
+            default -> {
+                return ((String[]) values)[row];
+            }
+        }
+    }
+
+    private Object decode(ArchiveColumn column) {
+        return switch (column.type) {
+            case LONG, TIME -> longs(column);
+            case DOUBLE -> doubles(column);
+            case INT -> ints(column);
+            case BOOLEAN -> bytes(column);
+            case STRING -> strings(column);
+        };
+    }
+
+    private long[] longs(ArchiveColumn column) {
+        ByteBuffer raw = inflate(column);
+        long[] values = new long[rowCount];
+        long previous = 0;
+        for (int i = 0; i < rowCount; i++) {
+            previous += raw.getLong();
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private double[] doubles(ArchiveColumn column) {
+        double[] values = new double[rowCount];
+        inflate(column).asDoubleBuffer().get(values);
+        return values;
+    }
+
+    private int[] ints(ArchiveColumn column) {
+        int[] values = new int[rowCount];
+        inflate(column).asIntBuffer().get(values);
+        return values;
+    }
+
+    private byte[] bytes(ArchiveColumn column) {
+        byte[] values = new byte[rowCount];
+        inflate(column).get(values);
+        return values;
+    }
+
+    private String[] strings(ArchiveColumn column) {
+        ByteBuffer raw = inflate(column);
+        char[] codes = new char[rowCount];
+        raw.asCharBuffer().get(codes);
+        raw.position(rowCount * Character.BYTES);
+
+        String[] dictionary;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                raw.array(), raw.position(), raw.remaining()))) {
+            dictionary = new String[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 사전 읽기 실패: " + path, e);
+        }
+
+        String[] values = new String[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = codes[i] == ArchiveColumn.NULL_CODE ? null : dictionary[codes[i]];
+        }
+        return values;
+    }
+
+    /**
+     * 매핑된 컬럼 블록을 힙 버퍼로 압축 해제
+     */
+    private ByteBuffer inflate(ArchiveColumn column) {
+        int index = column.ordinal();
+        ByteBuffer raw = ByteBuffer.allocate(rawLengths[index]);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.slice((int) blockOffsets[index], blockLengths[index]));
+            while (!inflater.finished()) {
+                if (inflater.inflate(raw) == 0
+                        && (inflater.needsInput() || inflater.needsDictionary() || !raw.hasRemaining())) {
+                    throw corrupted(column + " 블록이 잘렸습니다");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw corrupted(column + " 블록 압축 해제 실패: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+        if (raw.hasRemaining()) {
+            throw corrupted(column + " 블록 크기 불일치");
+        }
+        return raw.flip();
+    }
+
+    private IllegalStateException corrupted(String reason) {
+        return new IllegalStateException("손상된 아카이브 세그먼트 (" + path + "): " + reason);
+    }
+}
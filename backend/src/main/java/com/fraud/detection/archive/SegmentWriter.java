@@ -0,0 +1,253 @@
+package com.fraud.detection.archive;
+
+import com.fraud.detection.entity.Transaction;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 아카이브 세그먼트 작성기
+ * (createdAt, id) 오름차순으로 추가되는 행을 컬럼별 Deflate 스트림에 바로 압축하므로
+ * 하루치 거래를 엔티티로 모아 두지 않고 압축된 컬럼 블록 크기만큼만 메모리를 사용
+ */
+final class SegmentWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LocalDate day;
+    private final ColumnOutput[] columns = new ColumnOutput[ArchiveColumn.values().length];
+
+    private int rowCount;
+    private int fraudCount;
+    private final Map<String, Long> riskLevelCounts = new TreeMap<>();
+    private long minId = Long.MAX_VALUE;
+    private long maxId = Long.MIN_VALUE;
+    private long lastCreatedAt = Long.MIN_VALUE;
+    private long lastId = Long.MIN_VALUE;
+    private long minCreatedAt;
+    private double minAmount = Double.POSITIVE_INFINITY;
+    private double maxAmount = Double.NEGATIVE_INFINITY;
+    private double minProbability = Double.POSITIVE_INFINITY;
+    private double maxProbability = Double.NEGATIVE_INFINITY;
+
+    SegmentWriter(LocalDate day) {
+        this.day = day;
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            columns[column.ordinal()] = new ColumnOutput(column);
+        }
+    }
+
+    /**
+     * 행 추가 (같은 날짜, (createdAt, id) 오름차순)
+     */
+    void append(Transaction transaction) throws IOException {
+        LocalDateTime createdAt = transaction.getCreatedAt();
+        if (!createdAt.toLocalDate().equals(day)) {
+            throw new IllegalArgumentException("세그먼트 날짜(" + day + ")와 다른 거래입니다: " + transaction.getId());
+        }
+        long createdMicros = ArchiveColumn.toMicros(createdAt);
+        long id = transaction.getId();
+        if (createdMicros < lastCreatedAt || (createdMicros == lastCreatedAt && id <= lastId)) {
+            throw new IllegalArgumentException("(createdAt, id) 오름차순이 아닌 거래입니다: " + id);
+        }
+
+        for (ColumnOutput column : columns) {
+            column.write(column.column.get(transaction));
+        }
+
+        if (rowCount == 0) {
+            minCreatedAt = createdMicros;
+        }
+        lastCreatedAt = createdMicros;
+        lastId = id;
+        minId = Math.min(minId, id);
+        maxId = Math.max(maxId, id);
+        if (transaction.getAmount() != null) {
+            minAmount = Math.min(minAmount, transaction.getAmount());
+            maxAmount = Math.max(maxAmount, transaction.getAmount());
+        }
+        if (transaction.getFraudProbability() != null) {
+            minProbability = Math.min(minProbability, transaction.getFraudProbability());
+            maxProbability = Math.max(maxProbability, transaction.getFraudProbability());
+        }
+        if (Boolean.TRUE.equals(transaction.getIsFraud())) {
+            fraudCount++;
+        }
+        if (transaction.getRiskLevel() != null) {
+            riskLevelCounts.merge(transaction.getRiskLevel(), 1L, Long::sum);
+        }
+        rowCount++;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 임시 파일에 기록하고 디스크 동기화 후 target으로 원자적 교체
+     */
+    void writeTo(Path target) throws IOException {
+        List<byte[]> blocks = new ArrayList<>(columns.length);
+        int[] rawLengths = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            rawLengths[i] = columns[i].finish();
+            blocks.add(columns[i].compressed.toByteArray());
+        }
+
+        ByteBuffer header = header(blocks, rawLengths);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (byte[] block : blocks) {
+                writeFully(channel, ByteBuffer.wrap(block));
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void close() {
+        for (ColumnOutput column : columns) {
+            column.deflater.end();
+        }
+    }
+
+    /**
+     * 헤더: 세그먼트 통계 (조회 시 세그먼트 건너뛰기 판단용) + 컬럼 디렉터리 (블록 위치 / 압축 크기 / 원본 크기)
+     */
+    private ByteBuffer header(List<byte[]> blocks, int[] rawLengths) {
+        List<byte[]> riskLevels = new ArrayList<>();
+        int riskLevelBytes = 0;
+        for (String riskLevel : riskLevelCounts.keySet()) {
+            byte[] encoded = riskLevel.getBytes(StandardCharsets.UTF_8);
+            riskLevels.add(encoded);
+            riskLevelBytes += Short.BYTES + encoded.length + Long.BYTES;
+        }
+
+        int size = ArchiveSegment.FIXED_HEADER_BYTES + riskLevelBytes
+                + columns.length * ArchiveSegment.DIRECTORY_ENTRY_BYTES;
+        ByteBuffer header = ByteBuffer.allocate(size);
+        header.putInt(ArchiveSegment.MAGIC);
+        header.putInt(ArchiveSegment.VERSION);
+        header.putLong(day.toEpochDay());
+        header.putInt(rowCount);
+        header.putInt(fraudCount);
+        header.putLong(minId);
+        header.putLong(maxId);
+        header.putLong(minCreatedAt);
+        header.putLong(lastCreatedAt);
+        header.putDouble(minAmount);
+        header.putDouble(maxAmount);
+        header.putDouble(minProbability);
+        header.putDouble(maxProbability);
+
+        header.putInt(riskLevelCounts.size());
+        int index = 0;
+        for (long count : riskLevelCounts.values()) {
+            byte[] encoded = riskLevels.get(index++);
+            header.putShort((short) encoded.length);
+            header.put(encoded);
+            header.putLong(count);
+        }
+
+        header.putInt(columns.length);
+        long offset = size;
+        for (int i = 0; i < columns.length; i++) {
+            header.putLong(offset);
+            header.putInt(blocks.get(i).length);
+            header.putInt(rawLengths[i]);
+            offset += blocks.get(i).length;
+        }
+        return header.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 컬럼별 압축 출력 스트림
+     */
+    private static final class ColumnOutput {
+
+        private final ArchiveColumn column;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        private long previous;
+
+        private ColumnOutput(ArchiveColumn column) {
+            this.column = column;
+            this.out = new DataOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE), BUFFER_SIZE));
+        }
+
+        private void write(Object value) throws IOException {
+            switch (column.type) {
+                case LONG -> writeDelta(value == null ? ArchiveColumn.NULL_LONG : (Long) value);
+                case TIME -> writeDelta(value == null
+                        ? ArchiveColumn.NULL_LONG : ArchiveColumn.toMicros((LocalDateTime) value));
+                case DOUBLE -> out.writeDouble(value == null ? Double.NaN : (Double) value);
+                case INT -> out.writeInt(value == null ? ArchiveColumn.NULL_INT : (Integer) value);
+                case BOOLEAN -> out.writeByte(value == null
+                        ? ArchiveColumn.NULL_BOOLEAN : ((Boolean) value ? 1 : 0));
+                case STRING -> out.writeChar(value == null ? ArchiveColumn.NULL_CODE : code((String) value));
+            }
+        }
+
+        private void writeDelta(long value) throws IOException {
+            // null 예약값과의 차이는 오버플로되지만 복원 시 같은 방식으로 되돌아옴
+            out.writeLong(value - previous);
+            previous = value;
+        }
+
+        private int code(String value) {
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                if (dictionary.size() >= ArchiveColumn.NULL_CODE) {
+                    throw new IllegalStateException("세그먼트의 " + column + " 고유값이 너무 많습니다");
+                }
+                code = dictionary.size();
+                dictionary.put(value, code);
+            }
+            return code;
+        }
+
+        /**
+         * 문자열 컬럼은 사전을 블록 끝에 붙이고 스트림 종료, 원본(압축 전) 크기 반환
+         */
+        private int finish() throws IOException {
+            if (column.type == ArchiveColumn.Type.STRING) {
+                out.writeInt(dictionary.size());
+                for (String value : dictionary.keySet()) {
+                    out.writeUTF(value);
+                }
+            }
+            out.close();
+            return out.size();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.fraud.detection.archive;
+
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.entity.Transaction;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 거래 아카이브 (콜드 계층)
+ * min-age-days보다 오래된 거래를 날짜별 컬럼형 세그먼트 파일(app.archive.dir)로 보관하고 조회를 제공
+ *
+ * - 세그먼트는 시작 시 모두 메모리 매핑하며, 헤더 통계로 조회 조건과 겹치지 않는 세그먼트를 건너뜀
+ * - 세그먼트 교체는 임시 파일 기록 후 원자적 이름 변경으로 처리하여 조회 중에도 항상 완전한 파일만 보임
+ * - 아카이브로 옮기는 작업은 TransactionArchiver가 담당
+ */
+@Slf4j
+@Component
+public class TransactionArchive implements InitializingBean {
+
+    private static final String SEGMENT_PREFIX = "transactions-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final MeterRegistry meterRegistry;
+    private final NavigableMap<LocalDate, ArchiveSegment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public TransactionArchive(@Value("${app.archive.dir:./archive}") String directory, MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 기존 세그먼트 매핑 (남아 있는 임시 파일은 교체 도중 중단된 것이므로 삭제)
+     */
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX + ".tmp")) {
+                    Files.delete(file);
+                } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                    ArchiveSegment segment = ArchiveSegment.open(file);
+                    segments.put(segment.getDay(), segment);
+                }
+            }
+        }
+
+        Gauge.builder("fraud.archive.segments", segments, Map::size).register(meterRegistry);
+        Gauge.builder("fraud.archive.rows", this, TransactionArchive::totalCount).register(meterRegistry);
+        Gauge.builder("fraud.archive.bytes", this, TransactionArchive::sizeBytes).register(meterRegistry);
+
+        log.info("거래 아카이브 적재 - 경로: {}, 세그먼트: {}개, 거래: {}건",
+                directory.toAbsolutePath(), segments.size(), totalCount());
+    }
+
+    /**
+     * 하루치 거래를 세그먼트로 기록
+     * 같은 날짜의 세그먼트가 이미 있으면 기존 행과 병합하고, 같은 ID는 한 번만 기록
+     *
+     * @param rows (createdAt, id) 오름차순 거래
+     * @return 세그먼트의 전체 행 수 (새 행이 없으면 기존 세그먼트를 그대로 둠)
+     */
+    public int write(LocalDate day, Iterator<Transaction> rows) throws IOException {
+        writeLock.lock();
+        try (SegmentWriter writer = new SegmentWriter(day)) {
+            ArchiveSegment existing = segments.get(day);
+            if (!rows.hasNext()) {
+                return existing != null ? existing.getRowCount() : 0;
+            }
+            Iterator<Transaction> archived = existing != null ? existing.rows() : Collections.emptyIterator();
+
+            Transaction left = next(archived);
+            Transaction right = next(rows);
+            while (left != null || right != null) {
+                int order = left == null ? 1 : right == null ? -1 : compare(left, right);
+                if (order <= 0) {
+                    writer.append(left);
+                    left = next(archived);
+                    if (order == 0) {
+                        right = next(rows);
+                    }
+                } else {
+                    writer.append(right);
+                    right = next(rows);
+                }
+            }
+
+            Path target = directory.resolve(SEGMENT_PREFIX + day + SEGMENT_SUFFIX);
+            writer.writeTo(target);
+            segments.put(day, ArchiveSegment.open(target));
+            return writer.rowCount();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 기간 내 이상거래 키셋 페이지 ((createdAt, id) 내림차순)
+     * 최신 날짜 세그먼트부터 읽고, limit건을 채우면 더 오래된 세그먼트는 읽지 않음
+     */
+    public List<TransactionSummary> findFraudPage(LocalDateTime start, LocalDateTime end,
+                                                  LocalDateTime beforeTime, long beforeId, int limit) {
+        long from = ArchiveColumn.toMicros(start);
+        long to = ArchiveColumn.toMicros(end);
+        long before = ArchiveColumn.toMicros(beforeTime);
+
+        List<TransactionSummary> page = new ArrayList<>(limit);
+        for (ArchiveSegment segment : daysBetween(start, end).descendingMap().values()) {
+            if (page.size() >= limit) {
+                break;
+            }
+            List<TransactionSummary> rows = segment.fraudSummaries(from, to, before, beforeId);
+            for (int i = rows.size() - 1; i >= 0 && page.size() < limit; i--) {
+                page.add(rows.get(i));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 기간 내 이상거래 전체 컬럼 ((createdAt, id) 오름차순, 세그먼트 단위로 압축 해제)
+     */
+    public Stream<Transaction> streamFraudTransactions(LocalDateTime start, LocalDateTime end) {
+        long from = ArchiveColumn.toMicros(start);
+        long to = ArchiveColumn.toMicros(end);
+        return daysBetween(start, end).values().stream()
+                .flatMap(segment -> segment.fraudTransactions(from, to).stream());
+    }
+
+    /**
+     * [fromDay, toDay] 날짜 세그먼트의 모든 행을 집계용 컬럼만으로 순회 (날짜 오름차순)
+     */
+    public void scan(LocalDate fromDay, LocalDate toDay, ArchiveRowVisitor visitor) {
+        if (toDay.isBefore(fromDay)) {
+            return;
+        }
+        for (ArchiveSegment segment : segments.subMap(fromDay, true, toDay, true).values()) {
+            segment.scan(visitor);
+        }
+    }
+
+    public long totalCount() {
+        long count = 0;
+        for (ArchiveSegment segment : segments.values()) {
+            count += segment.getRowCount();
+        }
+        return count;
+    }
+
+    public long fraudCount() {
+        long count = 0;
+        for (ArchiveSegment segment : segments.values()) {
+            count += segment.getFraudCount();
+        }
+        return count;
+    }
+
+    /**
+     * oldestHot 날짜 이후의 세그먼트 (날짜 오름차순)
+     * 아카이브가 DB 삭제 전에 중단되면 세그먼트의 날짜 / ID 범위에 속한 거래가 DB에도 남으므로,
+     * DB와 아카이브를 함께 집계할 때 이 범위의 DB 거래를 제외하는 데 사용
+     *
+     * @param oldestHot DB에서 가장 오래된 거래 시각 (null이면 빈 목록)
+     */
+    public List<ArchiveSegment> segmentsSince(LocalDateTime oldestHot) {
+        if (oldestHot == null) {
+            return List.of();
+        }
+        return new ArrayList<>(segments.tailMap(oldestHot.toLocalDate(), true).values());
+    }
+
+    /**
+     * 아카이브된 거래 중 가장 큰 ID (세그먼트가 없으면 0)
+     */
+    public long maxId() {
+        long maxId = 0;
+        for (ArchiveSegment segment : segments.values()) {
+            maxId = Math.max(maxId, segment.getMaxId());
+        }
+        return maxId;
+    }
+
+    public Map<String, Long> riskLevelCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (ArchiveSegment segment : segments.values()) {
+            segment.getRiskLevelCounts().forEach((level, count) -> counts.merge(level, count, Long::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * 아카이브 요약 (세그먼트 수, 거래 수, 기간, 파일 크기)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("segments", segments.size());
+        summary.put("transactions", totalCount());
+        summary.put("oldest_day", segments.isEmpty() ? null : segments.firstKey().toString());
+        summary.put("newest_day", segments.isEmpty() ? null : segments.lastKey().toString());
+        summary.put("size_bytes", sizeBytes());
+        return summary;
+    }
+
+    private long sizeBytes() {
+        long bytes = 0;
+        for (ArchiveSegment segment : segments.values()) {
+            bytes += segment.getSizeBytes();
+        }
+        return bytes;
+    }
+
+    private NavigableMap<LocalDate, ArchiveSegment> daysBetween(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            return Collections.emptyNavigableMap();
+        }
+        return segments.subMap(start.toLocalDate(), true, end.toLocalDate(), true);
+    }
+
+    private static int compare(Transaction left, Transaction right) {
+        int order = left.getCreatedAt().compareTo(right.getCreatedAt());
+        return order != 0 ? order : Long.compare(left.getId(), right.getId());
+    }
+
+    private static Transaction next(Iterator<Transaction> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
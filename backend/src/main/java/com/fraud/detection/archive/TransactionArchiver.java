@@ -0,0 +1,109 @@
+package com.fraud.detection.archive;
+
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 거래를 아카이브로 옮기는 작업 (app.archive.enabled=true일 때 app.archive.cron 주기로 실행)
+ *
+ * 날짜마다 거래를 스트리밍하여 세그먼트를 기록(디스크 동기화 후 교체)한 다음에만 DB에서 삭제하므로,
+ * 중간에 중단되면 해당 날짜가 DB와 아카이브에 함께 남을 수 있으나 다음 실행에서 같은 ID를 병합하여 정리됨
+ */
+@Slf4j
+@Component
+public class TransactionArchiver {
+
+    /** 당일과 전날은 저장 대기 중인 거래가 있을 수 있어 옮기지 않음 */
+    private static final int MIN_AGE_DAYS = 2;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    @Value("${app.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    @Value("${app.archive.delete-chunk-size:5000}")
+    private int deleteChunkSize;
+
+    public TransactionArchiver(TransactionRepository transactionRepository,
+                               TransactionArchive transactionArchive,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.transactionArchive = transactionArchive;
+        this.entityManager = entityManager;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 가장 오래된 날짜부터 기준일(오늘 - min-age-days) 전날까지 하루씩 옮김
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime oldest = transactionRepository.findMinCreatedAt();
+        LocalDate cutoff = LocalDate.now().minusDays(Math.max(minAgeDays, MIN_AGE_DAYS));
+        if (oldest == null || !oldest.toLocalDate().isBefore(cutoff)) {
+            return;
+        }
+
+        for (LocalDate day = oldest.toLocalDate(); day.isBefore(cutoff); day = day.plusDays(1)) {
+            try {
+                archiveDay(day);
+            } catch (RuntimeException e) {
+                // 실패한 날짜는 DB에 그대로 남으므로 다음 실행에서 다시 시도
+                log.error("거래 아카이브 실패 - {}: {}", day, e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private void archiveDay(LocalDate day) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+
+        Integer rows = readTemplate.execute(status -> {
+            try (Stream<Transaction> stream = transactionRepository.streamCreatedBetween(from, to)) {
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 즉시 분리
+                return transactionArchive.write(day, stream.peek(entityManager::detach).iterator());
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 세그먼트 기록 실패: " + day, e);
+            }
+        });
+
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = writeTemplate.execute(status ->
+                    transactionRepository.deleteCreatedBetween(from, to, deleteChunkSize));
+            deleted += chunk;
+        } while (chunk == deleteChunkSize);
+
+        log.info("거래 아카이브 완료 - {}, 세그먼트: {}건, DB 삭제: {}건, 소요 시간: {}ms",
+                day, rows, deleted, System.currentTimeMillis() - startTime);
+    }
+}
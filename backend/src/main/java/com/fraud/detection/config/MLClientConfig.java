@@ -0,0 +1,126 @@
+package com.fraud.detection.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * ML API HTTP 클라이언트 설정
+ * Keep-Alive 커넥션 풀과 연결/응답 타임아웃을 적용한 RestTemplate과 리액티브 분석 경로용 WebClient
+ */
+@Configuration
+public class MLClientConfig {
+
+    @Value("${ml.api.connect-timeout:1000}")
+    private long connectTimeout;
+
+    @Value("${ml.api.timeout:5000}")
+    private long readTimeout;
+
+    @Value("${ml.api.pool.max-total:100}")
+    private int poolMaxTotal;
+
+    @Value("${ml.api.pool.max-per-route:100}")
+    private int poolMaxPerRoute;
+
+    @Value("${ml.api.pool.acquire-timeout:500}")
+    private long poolAcquireTimeout;
+
+    @Value("${ml.api.pool.keep-alive:60000}")
+    private long keepAlive;
+
+    @Value("${ml.reactive.max-connections:500}")
+    private int reactiveMaxConnections;
+
+    @Value("${ml.reactive.pending-acquire-max:10000}")
+    private int reactivePendingAcquireMax;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager mlConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolMaxTotal)
+                .setMaxConnPerRoute(poolMaxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        // 서버가 먼저 끊은 유휴 커넥션을 재사용하지 않도록 재사용 전 검증
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient mlHttpClient(PoolingHttpClientConnectionManager mlConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(mlConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAlive))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient mlHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(mlHttpClient))
+                .build();
+    }
+
+    /**
+     * WebClient 커넥션 풀 (reactor.netty.connection.provider.* 메트릭)
+     * 커넥션을 기다리는 호출이 pending-acquire-max를 넘으면 즉시 실패시켜 대기열이 무한히 쌓이지 않게 함
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider mlConnectionProvider() {
+        return ConnectionProvider.builder("ml-api")
+                .maxConnections(reactiveMaxConnections)
+                .pendingAcquireMaxCount(reactivePendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(poolAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(keepAlive))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient mlWebClient(WebClient.Builder webClientBuilder, ConnectionProvider mlConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(mlConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout)
+                .responseTimeout(Duration.ofMillis(readTimeout));
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * 커넥션 풀 포화도 메트릭 (httpcomponents.httpclient.pool.*)
+     */
+    @Bean
+    public MeterBinder mlConnectionPoolMetrics(PoolingHttpClientConnectionManager mlConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(mlConnectionManager, "ml-api");
+    }
+}
@@ -0,0 +1,314 @@
+package com.fraud.detection.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fraud.detection.dto.MLModelInfo;
+import com.fraud.detection.ml.EmbeddedFraudScorer;
+import com.fraud.detection.ml.FraudScorer;
+import com.fraud.detection.ml.MicroBatchingFraudScorer;
+import com.fraud.detection.ml.ModelRegistry;
+import com.fraud.detection.ml.MsgpackFraudScorer;
+import com.fraud.detection.ml.RandomForestModel;
+import com.fraud.detection.ml.ReactiveFraudScorer;
+import com.fraud.detection.ml.RemoteFraudScorer;
+import com.fraud.detection.ml.RiskThresholds;
+import com.fraud.detection.ml.RuleBasedFraudScorer;
+import com.fraud.detection.ml.ScoringModel;
+import com.fraud.detection.ml.ShadowScorer;
+import com.fraud.detection.ml.WebClientFraudScorer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * ML 스코어링 엔진 설정
+ * ml.engine 값에 따라 원격(FastAPI) 또는 JVM 내장 스코어러를 선택
+ */
+@Slf4j
+@Configuration
+public class MLScorerConfig {
+
+    @Value("${ml.engine:remote}")
+    private String engine;
+
+    @Value("${ml.api.url:http://localhost:8000}")
+    private String mlApiUrl;
+
+    @Value("${ml.api.transport:json}")
+    private String transport;
+
+    @Value("${ml.api.timeout:5000}")
+    private long mlApiTimeout;
+
+    @Value("${ml.model.location:${ml.api.url:http://localhost:8000}/api/model-export}")
+    private String modelLocation;
+
+    @Value("${ml.model.warmup-iterations:2000}")
+    private int warmupIterations;
+
+    @Value("${ml.model.refresh-interval-ms:5000}")
+    private long modelRefreshIntervalMs;
+
+    @Value("${ml.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${ml.batch.max-size:64}")
+    private int batchMaxSize;
+
+    @Value("${ml.batch.window-ms:5}")
+    private long batchWindowMs;
+
+    @Value("${ml.batch.queue-capacity:10000}")
+    private int batchQueueCapacity;
+
+    @Value("${ml.batch.max-concurrent:4}")
+    private int batchMaxConcurrent;
+
+    @Value("${ml.shadow.enabled:false}")
+    private boolean shadowEnabled;
+
+    @Value("${ml.shadow.engine:remote}")
+    private String shadowEngine;
+
+    @Value("${ml.shadow.api-url:http://localhost:8001}")
+    private String shadowApiUrl;
+
+    @Value("${ml.shadow.model-location:${ml.shadow.api-url:http://localhost:8001}/api/model-export}")
+    private String shadowModelLocation;
+
+    @Value("${ml.shadow.sample-rate:0.1}")
+    private double shadowSampleRate;
+
+    @Value("${ml.shadow.threads:2}")
+    private int shadowThreads;
+
+    @Value("${ml.shadow.queue-capacity:0}")
+    private int shadowQueueCapacity;
+
+    @Value("${ml.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${ml.circuit-breaker.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+
+    @Value("${ml.circuit-breaker.latency-budget-ms:500}")
+    private long latencyBudgetMs;
+
+    @Value("${ml.circuit-breaker.window-seconds:10}")
+    private int windowSeconds;
+
+    @Value("${ml.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${ml.circuit-breaker.open-duration-ms:10000}")
+    private long openDurationMs;
+
+    @Value("${ml.circuit-breaker.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    @Bean
+    @Primary
+    public FraudScorer fraudScorer(RestTemplate restTemplate,
+                                   ModelRegistry modelRegistry,
+                                   MeterRegistry meterRegistry) {
+        switch (engine) {
+            case "embedded":
+                return new EmbeddedFraudScorer(modelRegistry);
+            case "remote":
+                log.info("원격 ML 스코어러 사용 - {}, 전송 형식: {}", mlApiUrl, transport);
+                FraudScorer remote = remoteScorer(restTemplate, mlApiUrl);
+                if (!batchEnabled) {
+                    return remote;
+                }
+                // FastAPI /api/batch-predict는 한 번에 최대 1000건까지 처리
+                return new MicroBatchingFraudScorer(
+                        remote,
+                        Math.min(batchMaxSize, 1000),
+                        batchWindowMs,
+                        batchQueueCapacity,
+                        batchMaxConcurrent,
+                        batchWindowMs + mlApiTimeout,
+                        meterRegistry);
+            default:
+                throw new IllegalStateException("지원하지 않는 ml.engine 값입니다: " + engine);
+        }
+    }
+
+    /**
+     * 리액티브 분석 경로(/reactive/analyze) 스코어러
+     * 원격 엔진은 WebClient로 /api/predict를 논블로킹 호출하고 (JSON 전송, 마이크로 배칭 미적용),
+     * 내장 엔진은 분석 스케줄러에서 실행
+     */
+    @Bean
+    public ReactiveFraudScorer reactiveFraudScorer(WebClient mlWebClient,
+                                                   FraudScorer fraudScorer,
+                                                   Scheduler analysisScheduler) {
+        if ("remote".equals(engine)) {
+            return new WebClientFraudScorer(mlWebClient, mlApiUrl);
+        }
+        return ReactiveFraudScorer.blocking(fraudScorer, analysisScheduler);
+    }
+
+    /**
+     * 전송 형식(ml.api.transport)별 원격 스코어러, msgpack은 JSON 스코어러를 대체 경로로 가짐
+     */
+    private FraudScorer remoteScorer(RestTemplate restTemplate, String apiUrl) {
+        RemoteFraudScorer json = new RemoteFraudScorer(restTemplate, apiUrl);
+        switch (transport) {
+            case "json":
+                return json;
+            case "msgpack":
+                return new MsgpackFraudScorer(restTemplate, apiUrl, json);
+            default:
+                throw new IllegalStateException("지원하지 않는 ml.api.transport 값입니다: " + transport);
+        }
+    }
+
+    /**
+     * 판정 모델 레지스트리
+     * 내장 엔진은 ml.model.location의 트리 배열을, 원격 엔진은 ML 서버의 모델 버전과 위험도 임계값을 보관
+     */
+    @Bean
+    public ModelRegistry modelRegistry(RestTemplate restTemplate,
+                                       ResourceLoader resourceLoader,
+                                       ObjectMapper objectMapper) {
+        if ("embedded".equals(engine)) {
+            return new ModelRegistry(
+                    () -> embeddedModel(loadModel(resourceLoader, objectMapper, modelLocation)),
+                    embeddedModel(loadModel(resourceLoader, objectMapper, modelLocation)),
+                    warmupIterations);
+        }
+
+        // 원격 엔진은 ML 서버 없이도 시작할 수 있도록 조회 실패 시 기본 임계값 사용 (버전 없음, 이후 요청에서 다시 조회)
+        ScoringModel initial;
+        try {
+            initial = remoteModel(restTemplate.getForObject(mlApiUrl + "/api/model-info", MLModelInfo.class));
+        } catch (RestClientException e) {
+            log.warn("ML 서버 모델 정보 조회 실패 - 기본 위험도 임계값으로 시작: {}", e.getMessage());
+            initial = new ScoringModel(null, RiskThresholds.DEFAULT, null);
+        }
+        // 교체 시 ML 서버도 새 모델을 로드하고 예열한 뒤 교체하도록 요청
+        // 응답이 모르는 버전을 보고하면(다른 ML 복제본, 교체 진행 중) model-info로 그 버전의 임계값을 조회
+        return new ModelRegistry(
+                () -> remoteModel(restTemplate.postForObject(mlApiUrl + "/api/model-reload", null, MLModelInfo.class)),
+                () -> remoteModel(restTemplate.getForObject(mlApiUrl + "/api/model-info", MLModelInfo.class)),
+                modelRefreshIntervalMs,
+                initial,
+                warmupIterations);
+    }
+
+    /**
+     * 후보 모델 섀도 스코어러
+     * 원격은 ml.shadow.api-url의 ML 서버, 내장은 ml.shadow.model-location의 트리 배열로 채점 (마이크로 배칭 미적용)
+     */
+    @Bean
+    public ShadowScorer shadowScorer(RestTemplate restTemplate,
+                                     ResourceLoader resourceLoader,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        if (!shadowEnabled) {
+            return ShadowScorer.disabled();
+        }
+
+        FraudScorer candidate;
+        switch (shadowEngine) {
+            case "embedded":
+                RandomForestModel forest = loadModel(resourceLoader, objectMapper, shadowModelLocation);
+                candidate = new EmbeddedFraudScorer(
+                        new ModelRegistry(() -> embeddedModel(forest), embeddedModel(forest), warmupIterations));
+                break;
+            case "remote":
+                candidate = remoteScorer(restTemplate, shadowApiUrl);
+                break;
+            default:
+                throw new IllegalStateException("지원하지 않는 ml.shadow.engine 값입니다: " + shadowEngine);
+        }
+        log.info("섀도 후보 스코어러 - 엔진: {}, 위치: {}", shadowEngine,
+                "embedded".equals(shadowEngine) ? shadowModelLocation : shadowApiUrl);
+        return new ShadowScorer(candidate, shadowSampleRate, shadowThreads, shadowQueueCapacity, meterRegistry);
+    }
+
+    private static ScoringModel embeddedModel(RandomForestModel forest) {
+        RiskThresholds thresholds = forest.getRiskThresholds() != null
+                ? forest.getRiskThresholds()
+                : RiskThresholds.DEFAULT;
+        return new ScoringModel(forest.getVersion(), thresholds, forest);
+    }
+
+    private static ScoringModel remoteModel(MLModelInfo info) {
+        if (info == null) {
+            throw new IllegalStateException("ML 서버 모델 정보 응답이 비어 있습니다");
+        }
+        RiskThresholds thresholds = RiskThresholds.from(info.getRiskThresholds());
+        return new ScoringModel(info.getModelVersion(),
+                thresholds != null ? thresholds : RiskThresholds.DEFAULT, null);
+    }
+
+    /**
+     * ML 장애 시 대체 스코어러
+     */
+    @Bean
+    public RuleBasedFraudScorer fallbackScorer() {
+        return new RuleBasedFraudScorer();
+    }
+
+    /**
+     * ML 호출 서킷 브레이커
+     * 최근 window-seconds 동안의 실패율 또는 latency-budget-ms 초과 비율이 임계값을 넘으면 개방
+     */
+    @Bean
+    public CircuitBreaker mlCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.TIME_BASED)
+                .slidingWindowSize(windowSeconds)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(latencyBudgetMs))
+                .waitDurationInOpenState(Duration.ofMillis(openDurationMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("ml-api");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("ML 서킷 브레이커 상태 변경 - {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    private static RandomForestModel loadModel(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                                               String modelLocation) {
+        Resource resource = resourceLoader.getResource(modelLocation);
+        long startTime = System.currentTimeMillis();
+
+        try (InputStream in = resource.getInputStream()) {
+            RandomForestModel model = RandomForestModel.load(in, objectMapper);
+            log.info("내장 ML 모델 로드 완료 - 위치: {}, 트리: {}개, 노드: {}개, 소요 시간: {}ms",
+                    modelLocation, model.getTreeCount(), model.getNodeCount(),
+                    System.currentTimeMillis() - startTime);
+            return model;
+        } catch (IOException e) {
+            throw new UncheckedIOException("내장 ML 모델 로드 실패: " + modelLocation, e);
+        }
+    }
+}
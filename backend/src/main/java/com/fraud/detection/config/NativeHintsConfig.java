@@ -0,0 +1,50 @@
+package com.fraud.detection.config;
+
+import com.fraud.detection.dto.BulkAnalysisResult;
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.MLBatchResponse;
+import com.fraud.detection.dto.MLModelInfo;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.entity.Transaction;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * 네이티브 이미지 실행 힌트 (-Paot 빌드에서만 사용)
+ * 컨트롤러 시그니처에 드러나지 않고 RestTemplate / WebClient / ObjectMapper로 직접 변환하는 타입의 리플렉션 등록
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.JsonBindingHints.class)
+public class NativeHintsConfig {
+
+    static class JsonBindingHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    MLApiResponse.class,
+                    MLBatchResponse.class,
+                    MLModelInfo.class,
+                    TransactionAnalysisRequest.class,
+                    BulkAnalysisResult.class,
+                    TransactionSummary.class,
+                    Transaction.class);
+
+            // 내장 엔진의 모델 파일 (package-private 타입)
+            for (String type : new String[]{
+                    "com.fraud.detection.ml.RandomForestModel$ExportedForest",
+                    "com.fraud.detection.ml.RandomForestModel$ExportedTree"}) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fraud.detection.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 분석 경로 설정
+ * ML 응답 이후의 블로킹 작업(거래 ID 예약, 저장 요청)을 Netty 이벤트 루프가 아닌 제한된 스케줄러에서 실행
+ */
+@Slf4j
+@Configuration
+public class ReactiveConfig {
+
+    @Value("${app.reactive.scheduler-threads:64}")
+    private int schedulerThreads;
+
+    @Value("${app.reactive.scheduler-queue:10000}")
+    private int schedulerQueue;
+
+    /**
+     * 스레드와 대기 작업 수가 모두 제한된 스케줄러, 대기 작업이 가득 차면 요청을 거부 (503)
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler analysisScheduler() {
+        log.info("리액티브 분석 스케줄러 - 스레드: {}, 대기 작업: {}", schedulerThreads, schedulerQueue);
+        return Schedulers.newBoundedElastic(schedulerThreads, schedulerQueue, "fraud-analysis");
+    }
+}
@@ -0,0 +1,53 @@
+package com.fraud.detection.config;
+
+import com.fraud.detection.velocity.CardVelocityStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+
+/**
+ * 카드별 거래 속도 저장소 설정 (app.velocity.*)
+ */
+@Configuration
+public class VelocityConfig {
+
+    @Value("${app.velocity.max-events-per-card:256}")
+    private int maxEventsPerCard;
+
+    @Value("${app.velocity.ttl-seconds:86400}")
+    private int ttlSeconds;
+
+    @Bean
+    public CardVelocityStore cardVelocityStore() {
+        return new CardVelocityStore(maxEventsPerCard, ttlSeconds);
+    }
+
+    /**
+     * 보관 카드 수 및 추정 힙 사용량 메트릭
+     */
+    @Bean
+    public MeterBinder velocityStoreMetrics(CardVelocityStore cardVelocityStore) {
+        return registry -> {
+            Gauge.builder("fraud.velocity.cards", cardVelocityStore, CardVelocityStore::getCardCount)
+                    .description("거래 이력을 보관 중인 카드 수")
+                    .register(registry);
+            Gauge.builder("fraud.velocity.heap.estimate", cardVelocityStore, CardVelocityStore::getEstimatedHeapBytes)
+                    .description("카드 이력 추정 힙 사용량")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 만료 카드 제거 (추정 힙 사용량도 이 시점에 갱신)
+     */
+    @Scheduled(fixedDelayString = "${app.velocity.sweep-interval-ms:60000}")
+    public void evictExpiredCards() {
+        cardVelocityStore().evictExpired(Instant.now());
+    }
+}
@@ -1,19 +1,46 @@
 package com.fraud.detection.controller;
 
+import com.fraud.detection.dto.CursorPage;
+import com.fraud.detection.dto.InvalidCursorException;
 import com.fraud.detection.dto.TransactionAnalysisRequest;
 import com.fraud.detection.dto.TransactionAnalysisResponse;
-import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.dto.TransactionEventRequest;
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.ml.ModelReloadException;
+import com.fraud.detection.service.AggregationDimension;
+import com.fraud.detection.service.AnalysisOverloadedException;
+import com.fraud.detection.service.AnalysisPriority;
+import com.fraud.detection.service.BulkAnalysisService;
+import com.fraud.detection.service.FraudAlertPublisher;
 import com.fraud.detection.service.FraudDetectionService;
+import com.fraud.detection.service.IdempotencyKeyMismatchException;
+import com.fraud.detection.service.InvalidRequestParameterException;
+import com.fraud.detection.service.TransactionAggregations;
+import com.fraud.detection.service.TransactionExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 이상거래 탐지 REST API 컨트롤러
@@ -25,10 +52,22 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/fraud-detection")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {"X-Next-Cursor", "Retry-After"})
 public class FraudDetectionController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String TRAFFIC_CLASS_HEADER = "X-Traffic-Class";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
     private final FraudDetectionService fraudDetectionService;
+    private final TransactionExportService transactionExportService;
+    private final BulkAnalysisService bulkAnalysisService;
+    private final FraudAlertPublisher fraudAlertPublisher;
+    private final TransactionAggregations transactionAggregations;
 
     /**
      * 거래 분석 API
@@ -36,15 +75,22 @@ public class FraudDetectionController {
      * POST /api/fraud-detection/analyze
      * 
      * @param request 거래 데이터
-     * @return 분석 결과
+     * @param idempotencyKey 재시도 요청 식별용 멱등성 키 (선택)
+     * @param trafficClass 트래픽 분류 (realtime 기본, bulk / replay는 낮은 우선순위로 승인)
+     * @return 분석 결과 (동시 처리 한도 초과로 거절되면 503 + Retry-After)
      */
     @PostMapping("/analyze")
     public ResponseEntity<TransactionAnalysisResponse> analyzeTransaction(
-            @Valid @RequestBody TransactionAnalysisRequest request
+            @RequestBody TransactionAnalysisRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = TRAFFIC_CLASS_HEADER, required = false) String trafficClass
     ) {
         log.info("거래 분석 요청 수신 - 금액: {}", request.getAmount());
+        AnalysisPriority priority = AnalysisPriority.fromTrafficClass(trafficClass);
+        fraudDetectionService.validate(request);
         
-        TransactionAnalysisResponse response = fraudDetectionService.analyzeTransaction(request);
+        TransactionAnalysisResponse response =
+                fraudDetectionService.analyzeTransaction(request, idempotencyKey, priority);
         
         if (response.getIsFraud()) {
             log.warn("이상거래 탐지 - ID: {}, 확률: {}%",
@@ -56,36 +102,134 @@ public class FraudDetectionController {
     }
 
     /**
-     * 이상거래 목록 조회
+     * 거래 분석 API (리액티브)
+     * 
+     * POST /api/fraud-detection/reactive/analyze
+     * 
+     * ML 호출은 WebClient로 논블로킹 처리하고 요청 스레드는 응답을 기다리지 않고 반환되므로,
+     * 동시 처리량이 서블릿 스레드 수가 아니라 ML 커넥션 풀과 분석 스케줄러 한도로 결정됨
+     * (Idempotency-Key 중복 요청 캐시는 적용하지 않음)
+     * 
+     * @param request 거래 데이터
+     * @return 분석 결과
+     */
+    @PostMapping("/reactive/analyze")
+    public Mono<TransactionAnalysisResponse> analyzeTransactionReactive(
+            @RequestBody TransactionAnalysisRequest request
+    ) {
+        fraudDetectionService.validate(request);
+        return fraudDetectionService.analyzeTransactionReactive(request);
+    }
+
+    /**
+     * 원시 거래 이벤트 분석 API
+     * 
+     * POST /api/fraud-detection/analyze/event
+     * 
+     * 카드 ID, 가맹점 ID, 금액, 시각만 받아 이력 기반 특성은 서버에서 계산
+     * 
+     * @param event 거래 이벤트
+     * @param idempotencyKey 재시도 요청 식별용 멱등성 키 (선택, 같은 키의 재시도는 카드 이력에 다시 기록하지 않음)
+     * @param trafficClass 트래픽 분류 (realtime 기본, bulk / replay는 낮은 우선순위로 승인)
+     * @return 분석 결과
+     */
+    @PostMapping("/analyze/event")
+    public ResponseEntity<TransactionAnalysisResponse> analyzeEvent(
+            @Valid @RequestBody TransactionEventRequest event,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestHeader(value = TRAFFIC_CLASS_HEADER, required = false) String trafficClass
+    ) {
+        log.info("거래 이벤트 분석 요청 수신 - 금액: {}", event.getAmount());
+        AnalysisPriority priority = AnalysisPriority.fromTrafficClass(trafficClass);
+        return ResponseEntity.ok(fraudDetectionService.analyzeEvent(event, idempotencyKey, priority));
+    }
+
+    /**
+     * 거래 분석 API (배치)
      * 
-     * GET /api/fraud-detection/fraud-transactions
+     * POST /api/fraud-detection/analyze/batch
      * 
-     * @return 이상거래 목록
+     * JSON 배열 또는 NDJSON(Content-Type: application/x-ndjson)으로 거래 목록을 받아
+     * 입력 순서대로 {"index": n, "result": {...}} 또는 {"index": n, "error": "..."} 한 줄씩 응답
+     */
+    @PostMapping(value = "/analyze/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    public void analyzeTransactions(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean ndjson = NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        log.info("배치 거래 분석 요청 수신 - 형식: {}", ndjson ? "NDJSON" : "JSON 배열");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        long count = ndjson
+                ? bulkAnalysisService.analyzeNdjson(request.getInputStream(), response.getOutputStream())
+                : bulkAnalysisService.analyzeArray(request.getInputStream(), response.getOutputStream());
+
+        log.info("배치 거래 분석 응답 완료 - {}건", count);
+    }
+
+    /**
+     * 이상거래 목록 조회 (키셋 페이지, 최신순)
+     * 
+     * GET /api/fraud-detection/fraud-transactions?cursor=&size=
+     * 
+     * @param cursor 이전 응답의 X-Next-Cursor 헤더 값 (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 1000)
+     * @return 이상거래 목록, 다음 페이지가 있으면 X-Next-Cursor 헤더 포함
      */
     @GetMapping("/fraud-transactions")
-    public ResponseEntity<List<Transaction>> getFraudTransactions() {
+    public ResponseEntity<List<TransactionSummary>> getFraudTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size
+    ) {
         log.info("이상거래 목록 조회");
-        List<Transaction> transactions = fraudDetectionService.getFraudTransactions();
-        return ResponseEntity.ok(transactions);
+        CursorPage<TransactionSummary> page = fraudDetectionService.getFraudTransactions(cursor, pageSize(size));
+        return pageResponse(page);
     }
 
     /**
-     * 특정 기간 이상거래 조회
+     * 특정 기간 이상거래 조회 (키셋 페이지, 최신순)
      * 
      * GET /api/fraud-detection/fraud-transactions/period
      * 
      * @param start 시작 시간
      * @param end 종료 시간
+     * @param cursor 이전 응답의 X-Next-Cursor 헤더 값 (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 1000)
      * @return 해당 기간 이상거래 목록
      */
     @GetMapping("/fraud-transactions/period")
-    public ResponseEntity<List<Transaction>> getFraudTransactionsByPeriod(
+    public ResponseEntity<List<TransactionSummary>> getFraudTransactionsByPeriod(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size
     ) {
         log.info("기간별 이상거래 조회 - {} ~ {}", start, end);
-        List<Transaction> transactions = fraudDetectionService.getFraudTransactionsBetween(start, end);
-        return ResponseEntity.ok(transactions);
+        CursorPage<TransactionSummary> page =
+                fraudDetectionService.getFraudTransactionsBetween(start, end, cursor, pageSize(size));
+        return pageResponse(page);
+    }
+
+    /**
+     * 특정 기간 이상거래 내보내기 (NDJSON 스트리밍)
+     * 
+     * GET /api/fraud-detection/fraud-transactions/export
+     * 
+     * @param start 시작 시간
+     * @param end 종료 시간
+     * @return 한 줄에 거래 하나씩 기록된 NDJSON 스트림
+     */
+    @GetMapping("/fraud-transactions/export")
+    public ResponseEntity<StreamingResponseBody> exportFraudTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+    ) {
+        log.info("이상거래 내보내기 - {} ~ {}", start, end);
+        StreamingResponseBody body = out -> transactionExportService.exportFraudTransactions(start, end, out);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
     }
 
     /**
@@ -102,6 +246,66 @@ public class FraudDetectionController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 기간 / 차원별 이상거래 집계
+     * 
+     * GET /api/fraud-detection/aggregations?start=&end=&interval=hour&groupBy=riskLevel,crossBorder&merchantBand=0.8-1.0
+     * 
+     * 원본 거래를 읽지 않고 인메모리 시간 단위 집계 큐브에서 계산
+     * 
+     * @param start 시작 시각 (생략 시 end 24시간 전)
+     * @param end 종료 시각 (생략 시 현재)
+     * @param interval 시간 단위 (hour / day / total)
+     * @param groupBy 그룹 차원 (riskLevel, crossBorder, deviceChange, ipChange, merchantBand 중 쉼표 구분)
+     * @return 시간 / 그룹별 거래 수, 이상거래 수, 이상거래 비율
+     */
+    @GetMapping("/aggregations")
+    public ResponseEntity<Map<String, Object>> getAggregations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(defaultValue = "hour") String interval,
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) String riskLevel,
+            @RequestParam(required = false) String crossBorder,
+            @RequestParam(required = false) String deviceChange,
+            @RequestParam(required = false) String ipChange,
+            @RequestParam(required = false) String merchantBand
+    ) {
+        LocalDateTime to = end != null ? end : LocalDateTime.now();
+        LocalDateTime from = start != null ? start : to.minus(1, ChronoUnit.DAYS);
+
+        List<AggregationDimension> dimensions = new ArrayList<>();
+        if (groupBy != null) {
+            for (String name : groupBy) {
+                dimensions.add(AggregationDimension.fromParam(name));
+            }
+        }
+
+        Map<AggregationDimension, Integer> filters = new EnumMap<>(AggregationDimension.class);
+        addFilter(filters, AggregationDimension.RISK_LEVEL, riskLevel);
+        addFilter(filters, AggregationDimension.CROSS_BORDER, crossBorder);
+        addFilter(filters, AggregationDimension.DEVICE_CHANGE, deviceChange);
+        addFilter(filters, AggregationDimension.IP_CHANGE, ipChange);
+        addFilter(filters, AggregationDimension.MERCHANT_BAND, merchantBand);
+
+        return ResponseEntity.ok(transactionAggregations.query(from, to, interval, dimensions, filters));
+    }
+
+    /**
+     * 집계 큐브 재구성
+     * 
+     * POST /api/fraud-detection/aggregations/rebuild
+     * 
+     * 현재 시간 이전 버킷을 DB와 거래 아카이브에서 다시 계산 (수동 데이터 보정 후 등)
+     * 
+     * @return 재구성한 버킷 수, 거래 수, 소요 시간
+     */
+    @PostMapping("/aggregations/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildAggregations() {
+        log.info("집계 큐브 재구성 요청");
+        return ResponseEntity.ok(transactionAggregations.rebuild(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)));
+    }
+
     /**
      * 최근 거래 조회
      * 
@@ -110,24 +314,70 @@ public class FraudDetectionController {
      * @return 최근 10건 거래
      */
     @GetMapping("/recent-transactions")
-    public ResponseEntity<List<Transaction>> getRecentTransactions() {
+    public ResponseEntity<List<TransactionSummary>> getRecentTransactions() {
         log.info("최근 거래 조회");
-        List<Transaction> transactions = fraudDetectionService.getRecentTransactions();
+        List<TransactionSummary> transactions = fraudDetectionService.getRecentTransactions();
         return ResponseEntity.ok(transactions);
     }
 
     /**
-     * 높은 위험도 거래 조회
+     * 높은 위험도 거래 조회 (키셋 페이지, 확률 내림차순)
      * 
-     * GET /api/fraud-detection/high-risk-transactions
+     * GET /api/fraud-detection/high-risk-transactions?cursor=&size=
      * 
-     * @return 높은 위험도 거래 목록
+     * @return 최근 app.views.high-risk.window-hours시간의 높은 위험도 거래 목록
      */
     @GetMapping("/high-risk-transactions")
-    public ResponseEntity<List<Transaction>> getHighRiskTransactions() {
+    public ResponseEntity<List<TransactionSummary>> getHighRiskTransactions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size
+    ) {
         log.info("높은 위험도 거래 조회");
-        List<Transaction> transactions = fraudDetectionService.getHighRiskTransactions();
-        return ResponseEntity.ok(transactions);
+        CursorPage<TransactionSummary> page = fraudDetectionService.getHighRiskTransactions(cursor, pageSize(size));
+        return pageResponse(page);
+    }
+
+    /**
+     * 실시간 이상거래 알림 구독 (Server-Sent Events)
+     * 
+     * GET /api/fraud-detection/alerts/stream
+     * 
+     * HIGH 위험도 또는 이상거래 판정을 즉시 alert 이벤트(TransactionSummary)로 전달하며,
+     * 느린 구독자에게서 버려진 알림이 있으면 dropped 이벤트로 건수를 알림
+     * 
+     * @return 알림 스트림 (연결 종료 시 EventSource가 자동 재연결)
+     */
+    @GetMapping(value = "/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAlerts() {
+        return fraudAlertPublisher.subscribe();
+    }
+
+    /**
+     * 현재 판정 모델 조회
+     * 
+     * GET /api/fraud-detection/model
+     * 
+     * @return 모델 버전과 위험도 임계값
+     */
+    @GetMapping("/model")
+    public ResponseEntity<Map<String, Object>> getModel() {
+        return ResponseEntity.ok(fraudDetectionService.getModelInfo());
+    }
+
+    /**
+     * 판정 모델 무중단 교체
+     * 
+     * POST /api/fraud-detection/model/reload
+     * 
+     * 내장 엔진은 ml.model.location에서 새 트리 배열을, 원격 엔진은 ML 서버 교체 후 모델 정보를 받아
+     * 예열을 마친 뒤 교체하며, 처리 중인 요청은 기존 모델로 끝까지 판정
+     * 
+     * @return 교체된 모델 버전과 위험도 임계값
+     */
+    @PostMapping("/model/reload")
+    public ResponseEntity<Map<String, Object>> reloadModel() {
+        log.info("판정 모델 교체 요청");
+        return ResponseEntity.ok(fraudDetectionService.reloadModel());
     }
 
     /**
@@ -146,4 +396,109 @@ public class FraudDetectionController {
                 "timestamp", LocalDateTime.now()
         ));
     }
+
+    /**
+     * 요청 검증 실패
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleConstraintViolation(ConstraintViolationException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", 400,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 잘못된 커서
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidCursor(InvalidCursorException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", 400,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 잘못된 요청 파라미터 (집계 차원 / 필터 / interval / 기간, 트래픽 분류 헤더)
+     */
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidParameter(InvalidRequestParameterException e) {
+        return ResponseEntity.badRequest().body(Map.of(
+                "status", 400,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 멱등성 키 재사용 (같은 키로 다른 내용의 요청)
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.unprocessableEntity().body(Map.of(
+                "status", 422,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 모델 교체 실패 (기존 모델로 계속 판정)
+     */
+    @ExceptionHandler(ModelReloadException.class)
+    public ResponseEntity<Map<String, Object>> handleModelReloadFailure(ModelReloadException e) {
+        return ResponseEntity.internalServerError().body(Map.of(
+                "status", 500,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 처리 한도 초과 (실시간 알림 구독자 수, 리액티브 분석 스케줄러 대기 작업 수)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(503).body(Map.of(
+                "status", 503,
+                "error", e.getMessage(),
+                "timestamp", LocalDateTime.now()
+        ));
+    }
+
+    /**
+     * 동시 분석 한도 초과 또는 거래 저장 재시도 버퍼 포화 (재시도 가능)
+     */
+    @ExceptionHandler(AnalysisOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(AnalysisOverloadedException e) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of(
+                        "status", 503,
+                        "error", e.getMessage(),
+                        "timestamp", LocalDateTime.now()
+                ));
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static <T> ResponseEntity<List<T>> pageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    private static void addFilter(Map<AggregationDimension, Integer> filters,
+                                  AggregationDimension dimension, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(dimension, dimension.parse(value));
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.fraud.detection.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 분석 결과 항목 (NDJSON 한 줄)
+ * 입력 순서(index)와 함께 분석 결과 또는 오류 메시지 중 하나를 담음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkAnalysisResult {
+
+    private long index;
+    private TransactionAnalysisResponse result;
+    private String error;
+
+    public static BulkAnalysisResult success(long index, TransactionAnalysisResponse result) {
+        return new BulkAnalysisResult(index, result, null);
+    }
+
+    public static BulkAnalysisResult failure(long index, String error) {
+        return new BulkAnalysisResult(index, null, error);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fraud.detection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 조회 결과
+ * nextCursor가 null이면 마지막 페이지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+}
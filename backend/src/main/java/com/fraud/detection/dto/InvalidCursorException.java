@@ -0,0 +1,15 @@
+package com.fraud.detection.dto;
+
+/**
+ * 잘못된 페이지 커서 (디코딩 실패 또는 다른 목록의 커서, 400으로 응답)
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fraud.detection.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서
+ * 마지막으로 반환한 행의 정렬 키와 ID를 Base64(URL-safe) 문자열로 인코딩한 불투명 토큰
+ *
+ * - (createdAt, id): 이상거래 / 기간별 이상거래 목록
+ * - (fraudProbability, id): 높은 위험도 거래 목록
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetCursor {
+
+    /** 첫 페이지 조회용 시작값 (모든 행보다 큰 값) */
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final double MAX_SCORE = Double.MAX_VALUE;
+
+    private String key;
+    private long id;
+
+    public static KeysetCursor ofTime(LocalDateTime createdAt, long id) {
+        return new KeysetCursor(createdAt.toString(), id);
+    }
+
+    public static KeysetCursor ofScore(double fraudProbability, long id) {
+        return new KeysetCursor(Double.toString(fraudProbability), id);
+    }
+
+    /**
+     * 커서 디코딩 (null 또는 빈 값이면 첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(decoded.substring(0, separator), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * (createdAt, id) 커서의 시각 (다른 목록의 커서이면 InvalidCursorException)
+     */
+    public static LocalDateTime timeKey(KeysetCursor cursor) {
+        if (cursor == null) {
+            return MAX_TIME;
+        }
+        try {
+            return LocalDateTime.parse(cursor.key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("이 목록의 커서가 아닙니다: " + cursor.encode(), e);
+        }
+    }
+
+    /**
+     * (fraudProbability, id) 커서의 확률 (다른 목록의 커서이면 InvalidCursorException)
+     */
+    public static double scoreKey(KeysetCursor cursor) {
+        if (cursor == null) {
+            return MAX_SCORE;
+        }
+        try {
+            return Double.parseDouble(cursor.key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("이 목록의 커서가 아닙니다: " + cursor.encode(), e);
+        }
+    }
+
+    public static long idKey(KeysetCursor cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor.id;
+    }
+}
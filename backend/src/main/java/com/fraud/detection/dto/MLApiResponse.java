@@ -27,4 +27,8 @@ public class MLApiResponse {
 
     @JsonProperty("timestamp")
     private String timestamp;
+
+    /** 판정한 모델 버전 (규칙 기반 대체 점수는 RuleBasedFraudScorer.VERSION) */
+    @JsonProperty("model_version")
+    private String modelVersion;
 }
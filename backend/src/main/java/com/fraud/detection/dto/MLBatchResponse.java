@@ -0,0 +1,33 @@
+package com.fraud.detection.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ML API 배치 응답 DTO
+ * 요청 순서와 동일한 순서로 예측 결과를 반환
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MLBatchResponse {
+
+    @JsonProperty("total_count")
+    private Integer totalCount;
+
+    @JsonProperty("fraud_count")
+    private Integer fraudCount;
+
+    @JsonProperty("results")
+    private List<MLApiResponse> results;
+
+    @JsonProperty("model_version")
+    private String modelVersion;
+
+    @JsonProperty("timestamp")
+    private String timestamp;
+}
@@ -0,0 +1,24 @@
+package com.fraud.detection.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * ML API 모델 정보 DTO
+ * FastAPI 서버의 /api/model-info, /api/model-reload 응답 중 판정에 필요한 필드
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MLModelInfo {
+
+    @JsonProperty("model_version")
+    private String modelVersion;
+
+    @JsonProperty("risk_thresholds")
+    private Map<String, Double> riskThresholds;
+}
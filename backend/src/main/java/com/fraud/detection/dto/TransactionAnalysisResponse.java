@@ -20,6 +20,8 @@ public class TransactionAnalysisResponse {
     private Boolean isFraud;
     private Double fraudProbability;
     private String riskLevel;
+    private String scoringPath;
+    private String modelVersion;
     private String message;
     private LocalDateTime analyzedAt;
 
@@ -30,16 +32,13 @@ public class TransactionAnalysisResponse {
             Long transactionId,
             Boolean isFraud,
             Double fraudProbability,
-            String riskLevel
+            String riskLevel,
+            String scoringPath,
+            String modelVersion
     ) {
-        return TransactionAnalysisResponse.builder()
-                .transactionId(transactionId)
-                .isFraud(isFraud)
-                .fraudProbability(fraudProbability)
-                .riskLevel(riskLevel)
-                .message(isFraud ? "이상거래가 탐지되었습니다" : "정상 거래입니다")
-                .analyzedAt(LocalDateTime.now())
-                .build();
+        // 요청마다 호출되므로 빌더 대신 생성자로 직접 생성
+        return new TransactionAnalysisResponse(transactionId, isFraud, fraudProbability, riskLevel, scoringPath,
+                modelVersion, isFraud ? "이상거래가 탐지되었습니다" : "정상 거래입니다", LocalDateTime.now());
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.fraud.detection.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 원시 거래 이벤트 요청 DTO
+ * 거래 수, 평균 금액, 거래 속도 등 이력 기반 특성은 서버가 카드별 이력으로 계산
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionEventRequest {
+
+    @NotBlank(message = "카드 ID는 필수입니다")
+    private String cardId;
+
+    @NotBlank(message = "가맹점 ID는 필수입니다")
+    private String merchantId;
+
+    @NotNull(message = "거래 금액은 필수입니다")
+    @Positive(message = "거래 금액은 양수여야 합니다")
+    private Double amount;
+
+    /** 거래 시각 (ISO-8601, 생략 시 수신 시각, 수신 시각보다 app.velocity.max-clock-skew-seconds 넘게 미래이면 거절) */
+    private Instant timestamp;
+
+    @NotNull
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private Double merchantRiskScore;
+
+    @NotNull
+    @Min(0)
+    private Double cardAgeDays;
+
+    @NotNull
+    @Min(0)
+    @Max(1)
+    private Integer crossBorder;
+
+    @NotNull
+    @Min(0)
+    @Max(1)
+    private Integer deviceChange;
+
+    @NotNull
+    @Min(0)
+    @Max(1)
+    private Integer ipChange;
+}
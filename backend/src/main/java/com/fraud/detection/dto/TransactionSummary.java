@@ -0,0 +1,41 @@
+package com.fraud.detection.dto;
+
+import com.fraud.detection.entity.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 요약 DTO (목록 조회용 읽기 전용 프로젝션)
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회하여 엔티티 관리와 변경 감지 비용을 생략
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSummary {
+
+    private Long id;
+    private Double amount;
+    private Boolean isFraud;
+    private Double fraudProbability;
+    private String riskLevel;
+    private String scoringPath;
+    private LocalDateTime createdAt;
+
+    /**
+     * 엔티티로부터 생성
+     */
+    public static TransactionSummary from(Transaction transaction) {
+        return new TransactionSummary(
+                transaction.getId(),
+                transaction.getAmount(),
+                transaction.getIsFraud(),
+                transaction.getFraudProbability(),
+                transaction.getRiskLevel(),
+                transaction.getScoringPath(),
+                transaction.getCreatedAt()
+        );
+    }
+}
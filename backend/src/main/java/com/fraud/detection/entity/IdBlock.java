@@ -0,0 +1,28 @@
+package com.fraud.detection.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 블록 엔티티
+ * 애플리케이션이 미리 할당받는 ID 구간의 다음 시작값 (hi/lo 방식)
+ */
+@Entity
+@Table(name = "id_blocks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdBlock {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
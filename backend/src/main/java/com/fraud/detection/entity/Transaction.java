@@ -1,27 +1,35 @@
 package com.fraud.detection.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 /**
  * 거래 엔티티
  * 이상거래 탐지 결과를 데이터베이스에 저장
+ *
+ * ID는 TransactionIdGenerator가 미리 할당하므로 JDBC 배치 INSERT가 가능하며,
+ * Persistable로 신규 여부를 직접 판단하여 저장 전 SELECT를 생략
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_fraud_created", columnList = "is_fraud, created_at"),
+        @Index(name = "idx_transactions_risk_probability", columnList = "risk_level, fraud_probability"),
+        @Index(name = "idx_transactions_created_at", columnList = "created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Transaction {
+public class Transaction implements Persistable<Long> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
@@ -79,15 +87,37 @@ public class Transaction {
     @Column(name = "risk_level")
     private String riskLevel;
 
+    // 판정 경로 (REMOTE_MODEL / EMBEDDED_MODEL / RULE_FALLBACK)
+    @Column(name = "scoring_path", length = 20)
+    private String scoringPath;
+
+    // 판정한 모델 버전 (규칙 기반 대체 점수는 rules-N)
+    @Column(name = "model_version", length = 40)
+    private String modelVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // 분석 시점에 생성 시각이 설정된 경우 유지 (비동기 저장 지연과 무관하게 기록)
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
         updatedAt = LocalDateTime.now();
     }
 
@@ -95,4 +125,10 @@ public class Transaction {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        newEntity = false;
+    }
 }
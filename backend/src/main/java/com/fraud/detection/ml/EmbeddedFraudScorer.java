@@ -0,0 +1,48 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM 내장 스코어러 (ml.engine=embedded)
+ * HTTP 호출 없이 프로세스 내에서 ModelRegistry의 현재 Random Forest 모델을 평가
+ */
+@RequiredArgsConstructor
+public class EmbeddedFraudScorer implements FraudScorer {
+
+    private final ModelRegistry modelRegistry;
+
+    @Override
+    public MLApiResponse score(double[] features) {
+        return score(modelRegistry.current(), features, LocalDateTime.now().toString());
+    }
+
+    @Override
+    public List<MLApiResponse> scoreBatch(List<double[]> features) {
+        // 배치 전체를 같은 모델 버전으로 평가
+        ScoringModel model = modelRegistry.current();
+        String timestamp = LocalDateTime.now().toString();
+
+        List<MLApiResponse> results = new ArrayList<>(features.size());
+        for (double[] vector : features) {
+            results.add(score(model, vector, timestamp));
+        }
+        return results;
+    }
+
+    private static MLApiResponse score(ScoringModel model, double[] features, String timestamp) {
+        double probability = model.getForest().predictProbability(features);
+
+        // scikit-learn predict와 동일하게 다수 클래스로 판정
+        return new MLApiResponse(probability > 0.5, probability, null, timestamp, model.getVersion());
+    }
+
+    @Override
+    public ScoringPath path() {
+        return ScoringPath.EMBEDDED_MODEL;
+    }
+}
@@ -0,0 +1,110 @@
+package com.fraud.detection.ml;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 모델 입력 특성 벡터
+ * train_model.py의 feature_names와 동일한 고정 순서의 double[] 표현
+ *
+ * 요청당 한 번 만들어 점수 캐시 키, 스코어러, ML API 요청 본문에 그대로 사용 (변경 금지)
+ */
+public final class FeatureVector {
+
+    public static final List<String> FEATURE_NAMES = List.of(
+            "amount",
+            "transaction_count_1h",
+            "transaction_count_24h",
+            "different_merchants_24h",
+            "avg_transaction_amount",
+            "time_since_last_transaction",
+            "is_weekend",
+            "is_night_time",
+            "merchant_risk_score",
+            "card_age_days",
+            "transaction_velocity",
+            "amount_deviation",
+            "cross_border",
+            "device_change",
+            "ip_change"
+    );
+
+    public static final int SIZE = FEATURE_NAMES.size();
+
+    public static final int AMOUNT = 0;
+    public static final int TRANSACTION_COUNT_1H = 1;
+    public static final int TRANSACTION_COUNT_24H = 2;
+    public static final int DIFFERENT_MERCHANTS_24H = 3;
+    public static final int AVG_TRANSACTION_AMOUNT = 4;
+    public static final int TIME_SINCE_LAST_TRANSACTION = 5;
+    public static final int IS_WEEKEND = 6;
+    public static final int IS_NIGHT_TIME = 7;
+    public static final int MERCHANT_RISK_SCORE = 8;
+    public static final int CARD_AGE_DAYS = 9;
+    public static final int TRANSACTION_VELOCITY = 10;
+    public static final int AMOUNT_DEVIATION = 11;
+    public static final int CROSS_BORDER = 12;
+    public static final int DEVICE_CHANGE = 13;
+    public static final int IP_CHANGE = 14;
+
+    /** JSON 필드명 (미리 인코딩하여 요청마다 문자열을 다시 인코딩하지 않음) */
+    private static final SerializedString[] JSON_NAMES = FEATURE_NAMES.stream()
+            .map(SerializedString::new)
+            .toArray(SerializedString[]::new);
+
+    /** FastAPI 모델에서 int로 선언된 특성 (정수로 기록) */
+    private static final boolean[] INTEGER_FEATURE = new boolean[SIZE];
+
+    static {
+        for (int index : new int[]{TRANSACTION_COUNT_1H, TRANSACTION_COUNT_24H, DIFFERENT_MERCHANTS_24H,
+                IS_WEEKEND, IS_NIGHT_TIME, CROSS_BORDER, DEVICE_CHANGE, IP_CHANGE}) {
+            INTEGER_FEATURE[index] = true;
+        }
+    }
+
+    private FeatureVector() {
+    }
+
+    /**
+     * 요청 DTO를 특성 벡터로 변환
+     */
+    public static double[] from(TransactionAnalysisRequest request) {
+        return new double[]{
+                request.getAmount(),
+                request.getTransactionCount1h(),
+                request.getTransactionCount24h(),
+                request.getDifferentMerchants24h(),
+                request.getAvgTransactionAmount(),
+                request.getTimeSinceLastTransaction(),
+                request.getIsWeekend(),
+                request.getIsNightTime(),
+                request.getMerchantRiskScore(),
+                request.getCardAgeDays(),
+                request.getTransactionVelocity(),
+                request.getAmountDeviation(),
+                request.getCrossBorder(),
+                request.getDeviceChange(),
+                request.getIpChange()
+        };
+    }
+
+    /**
+     * 특성 벡터를 FastAPI TransactionRequest 형식의 JSON 객체로 기록 (중간 DTO 없음)
+     */
+    public static void writeJson(JsonGenerator generator, double[] features) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < SIZE; i++) {
+            generator.writeFieldName(JSON_NAMES[i]);
+            if (INTEGER_FEATURE[i]) {
+                generator.writeNumber((long) features[i]);
+            } else {
+                generator.writeNumber(features[i]);
+            }
+        }
+        generator.writeEndObject();
+    }
+}
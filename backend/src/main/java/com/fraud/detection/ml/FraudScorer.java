@@ -0,0 +1,41 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이상거래 스코어러
+ * 거래 특성 벡터(FeatureVector 순서)로부터 이상거래 여부, 확률, 모델 버전을 계산
+ * 위험도 레벨은 스코어러가 아니라 FraudDetectionService가 ModelRegistry의 임계값으로 판정
+ */
+public interface FraudScorer {
+
+    /**
+     * 거래 스코어링
+     *
+     * @param features FeatureVector 순서의 특성 벡터
+     * @return 예측 결과
+     */
+    MLApiResponse score(double[] features);
+
+    /**
+     * 판정 경로
+     */
+    ScoringPath path();
+
+    /**
+     * 배치 스코어링
+     *
+     * @param features 거래별 특성 벡터 목록
+     * @return 요청과 동일한 순서의 예측 결과 목록
+     */
+    default List<MLApiResponse> scoreBatch(List<double[]> features) {
+        List<MLApiResponse> results = new ArrayList<>(features.size());
+        for (double[] vector : features) {
+            results.add(score(vector));
+        }
+        return results;
+    }
+}
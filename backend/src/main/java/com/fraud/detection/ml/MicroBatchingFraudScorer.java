@@ -0,0 +1,200 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 마이크로 배칭 스코어러 (ml.batch.enabled=true)
+ * 동시에 들어온 요청을 최대 window-ms 동안 또는 max-size 건까지 모아 한 번의 배치 호출로 전송하고,
+ * 각 호출자의 Future를 해당 건의 예측 결과로 완료
+ */
+@Slf4j
+public class MicroBatchingFraudScorer implements FraudScorer, AutoCloseable {
+
+    private final FraudScorer delegate;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final long timeoutMillis;
+
+    private final BlockingQueue<PendingRequest> queue;
+    private final ThreadPoolExecutor sender;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSize;
+    private final Timer batchWait;
+    private final Timer batchLatency;
+
+    public MicroBatchingFraudScorer(FraudScorer delegate,
+                                    int maxBatchSize,
+                                    long windowMillis,
+                                    int queueCapacity,
+                                    int maxConcurrentBatches,
+                                    long timeoutMillis,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        // 전송 스레드가 모두 사용 중이면 디스패처가 직접 전송하여 자연스럽게 수집 속도를 낮춤
+        this.sender = new ThreadPoolExecutor(
+                maxConcurrentBatches, maxConcurrentBatches, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxConcurrentBatches),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ml-batch-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.batchSize = DistributionSummary.builder("fraud.ml.batch.size")
+                .description("ML 배치 호출당 거래 건수")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchWait = Timer.builder("fraud.ml.batch.wait")
+                .description("요청이 배치에 포함되어 전송되기까지 대기한 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("fraud.ml.batch.latency")
+                .description("ML 배치 호출 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("fraud.ml.batch.queue", queue, BlockingQueue::size);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "ml-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+
+        log.info("ML 마이크로 배칭 활성화 - 최대 {}건, 대기 {}ms", maxBatchSize, windowMillis);
+    }
+
+    @Override
+    public MLApiResponse score(double[] features) {
+        PendingRequest pending = new PendingRequest(features);
+        if (!running || !queue.offer(pending)) {
+            throw new RejectedExecutionException("ML 배치 대기열이 가득 찼습니다");
+        }
+
+        try {
+            return pending.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ML 배치 응답 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("ML 배치 응답 시간 초과 (" + timeoutMillis + "ms)", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("ML 배치 호출 실패", cause);
+        }
+    }
+
+    @Override
+    public List<MLApiResponse> scoreBatch(List<double[]> features) {
+        // 이미 배치로 구성된 요청은 대기열을 거치지 않고 바로 전송
+        return delegate.scoreBatch(features);
+    }
+
+    @Override
+    public ScoringPath path() {
+        return delegate.path();
+    }
+
+    private void dispatchLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRequest first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingRequest> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = first.enqueuedAt + windowNanos;
+
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingRequest next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : null;
+                    if (next == null) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                sender.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("ML 배치 디스패치 중 오류", e);
+            }
+        }
+    }
+
+    private void send(List<PendingRequest> batch) {
+        long dispatchedAt = System.nanoTime();
+        List<double[]> features = new ArrayList<>(batch.size());
+        for (PendingRequest pending : batch) {
+            batchWait.record(dispatchedAt - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            features.add(pending.features);
+        }
+        batchSize.record(batch.size());
+
+        try {
+            List<MLApiResponse> results = delegate.scoreBatch(features);
+            batchLatency.record(System.nanoTime() - dispatchedAt, TimeUnit.NANOSECONDS);
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("ML 배치 호출 실패 - {}건: {}", batch.size(), e.getMessage());
+            for (PendingRequest pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 요청을 모두 전송한 뒤 정지
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+        sender.shutdown();
+        sender.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class PendingRequest {
+
+        private final double[] features;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<MLApiResponse> future = new CompletableFuture<>();
+
+        private PendingRequest(double[] features) {
+            this.features = features;
+        }
+    }
+}
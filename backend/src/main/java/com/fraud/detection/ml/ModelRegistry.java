@@ -0,0 +1,210 @@
+package com.fraud.detection.ml;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모델/위험도 임계값 레지스트리
+ * 현재 ScoringModel을 참조 하나로 보관하고, 새 버전은 로드와 예열을 마친 뒤 참조만 바꿔 교체 (copy-on-write)
+ *
+ * - 요청은 시작 시 current()로 받은 스냅샷으로 끝까지 판정하므로 교체 중에도 실패하거나 섞이지 않음
+ * - 로드나 예열에 실패하면 기존 모델을 그대로 유지
+ * - 등록했던 버전별 모델을 보관하여, 응답이 보고한 모델 버전의 임계값으로 판정할 수 있게 함 (resolve)
+ * - 원격 엔진은 모르는 버전이 보고되거나 현재 버전을 모르면(시작 시 ML 서버 조회 실패)
+ *   refresh-interval마다 최대 한 번 ML 서버의 현재 모델 정보를 다시 조회
+ */
+@Slf4j
+public class ModelRegistry {
+
+    /**
+     * 새 모델 로더 (내장 엔진은 트리 배열, 원격 엔진은 ML 서버의 모델 정보)
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        ScoringModel load() throws Exception;
+    }
+
+    /** 예열용 특성별 최대값 (FeatureVector 순서, 학습 데이터 범위를 덮도록 설정), 0/1 특성은 WARMUP_BINARY */
+    private static final double[] WARMUP_MAX = {
+            500_000, 20, 50, 20, 200_000, 86_400, 1, 1, 1, 3_650, 10, 10, 1, 1, 1
+    };
+    private static final boolean[] WARMUP_BINARY = new boolean[FeatureVector.SIZE];
+
+    /** 보관할 최대 버전 수 (초과 시 현재 모델만 남기고 비움) */
+    private static final int MAX_KNOWN_VERSIONS = 16;
+
+    static {
+        for (int index : new int[]{FeatureVector.IS_WEEKEND, FeatureVector.IS_NIGHT_TIME,
+                FeatureVector.CROSS_BORDER, FeatureVector.DEVICE_CHANGE, FeatureVector.IP_CHANGE}) {
+            WARMUP_BINARY[index] = true;
+        }
+    }
+
+    private final Loader loader;
+    private final Loader refresher;
+    private final long refreshIntervalNanos;
+    private final int warmupIterations;
+    private final AtomicReference<ScoringModel> current;
+    private final Map<String, ScoringModel> known = new ConcurrentHashMap<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile long lastRefreshAt;
+
+    public ModelRegistry(Loader loader, ScoringModel initial, int warmupIterations) {
+        this(loader, null, 0, initial, warmupIterations);
+    }
+
+    /**
+     * @param refresher 현재 서빙 중인 모델 정보 조회 (교체 요청 없음, 원격 엔진용, 없으면 null)
+     * @param refreshIntervalMs refresher 호출 최소 간격
+     */
+    public ModelRegistry(Loader loader, Loader refresher, long refreshIntervalMs,
+                         ScoringModel initial, int warmupIterations) {
+        this.loader = loader;
+        this.refresher = refresher;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+        this.warmupIterations = warmupIterations;
+        this.current = new AtomicReference<>(warmUp(initial));
+        this.lastRefreshAt = System.nanoTime();
+        register(initial);
+        log.info("판정 모델 등록 - 버전: {}, 위험도 임계값: {}", initial.getVersion(), initial.getThresholds());
+    }
+
+    /**
+     * 현재 모델 (요청당 한 번 읽어 판정 끝까지 사용)
+     */
+    public ScoringModel current() {
+        return current.get();
+    }
+
+    /**
+     * 스코어러가 보고한 모델 버전에 맞는 판정 모델
+     *
+     * @param snapshot 요청 시작 시 current()로 받은 모델
+     * @param reportedVersion 스코어러 응답의 모델 버전 (없으면 null)
+     * @return 버전이 없거나 snapshot과 같으면 snapshot, 등록된 다른 버전이면 그 모델, 알 수 없는 버전이면 null
+     */
+    public ScoringModel resolve(ScoringModel snapshot, String reportedVersion) {
+        if (snapshot.getVersion() == null) {
+            refresh();
+        }
+        if (reportedVersion == null || reportedVersion.equals(snapshot.getVersion())) {
+            return snapshot;
+        }
+        ScoringModel model = known.get(reportedVersion);
+        if (model == null) {
+            refresh();
+            model = known.get(reportedVersion);
+        }
+        return model;
+    }
+
+    /**
+     * 새 모델을 로드하고 예열한 뒤 교체 (동시 교체 요청은 순서대로 처리)
+     *
+     * @return 교체된 모델
+     * @throws ModelReloadException 로드 또는 예열 실패 시 (기존 모델 유지)
+     */
+    public ScoringModel reload() {
+        reloadLock.lock();
+        try {
+            ScoringModel previous = current.get();
+            long startTime = System.currentTimeMillis();
+
+            ScoringModel candidate;
+            try {
+                candidate = warmUp(loader.load());
+            } catch (Exception e) {
+                log.error("모델 교체 실패 - 기존 버전 {} 유지", previous.getVersion(), e);
+                throw new ModelReloadException("모델 교체 실패: " + e.getMessage(), e);
+            }
+
+            current.set(candidate);
+            register(candidate);
+            log.info("모델 교체 완료 - {} → {}, 위험도 임계값: {}, 소요 시간: {}ms",
+                    previous.getVersion(), candidate.getVersion(), candidate.getThresholds(),
+                    System.currentTimeMillis() - startTime);
+            return candidate;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * ML 서버의 현재 모델 정보를 다시 조회하여 버전 등록 (refresh-interval마다 최대 한 번, 진행 중이면 기다리지 않음)
+     * 현재 모델의 버전을 모르면(시작 시 조회 실패) 조회한 모델로 교체
+     */
+    private void refresh() {
+        if (refresher == null || System.nanoTime() - lastRefreshAt < refreshIntervalNanos
+                || !refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (System.nanoTime() - lastRefreshAt < refreshIntervalNanos) {
+                return;
+            }
+            lastRefreshAt = System.nanoTime();
+            ScoringModel fetched = refresher.load();
+            if (fetched.getVersion() == null) {
+                return;
+            }
+            register(fetched);
+            ScoringModel previous = current.get();
+            if (previous.getVersion() == null && current.compareAndSet(previous, fetched)) {
+                log.info("모델 정보 조회 완료 - 버전: {}, 위험도 임계값: {}", fetched.getVersion(), fetched.getThresholds());
+            }
+        } catch (Exception e) {
+            log.warn("모델 정보 조회 실패 - {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void register(ScoringModel model) {
+        if (model.getVersion() == null) {
+            return;
+        }
+        if (known.size() >= MAX_KNOWN_VERSIONS && !known.containsKey(model.getVersion())) {
+            known.clear();
+            ScoringModel active = current.get();
+            if (active.getVersion() != null) {
+                known.put(active.getVersion(), active);
+            }
+        }
+        known.put(model.getVersion(), model);
+    }
+
+    /**
+     * 트래픽을 받기 전에 트리 배열을 미리 평가하여 첫 요청의 캐시 미스와 JIT 지연을 제거하고,
+     * 확률 범위를 벗어나는 모델은 거부
+     */
+    private ScoringModel warmUp(ScoringModel model) {
+        RandomForestModel forest = model.getForest();
+        if (forest == null || warmupIterations <= 0) {
+            return model;
+        }
+
+        long startTime = System.nanoTime();
+        Random random = new Random(42);
+        double[] features = new double[FeatureVector.SIZE];
+        for (int i = 0; i < warmupIterations; i++) {
+            for (int f = 0; f < features.length; f++) {
+                features[f] = WARMUP_BINARY[f] ? random.nextInt(2) : random.nextDouble() * WARMUP_MAX[f];
+            }
+            double probability = forest.predictProbability(features);
+            if (!(probability >= 0 && probability <= 1)) {
+                throw new IllegalStateException("모델 예측 확률이 범위를 벗어났습니다: " + probability);
+            }
+        }
+        log.info("모델 예열 완료 - 버전: {}, {}회, {}ms", model.getVersion(), warmupIterations,
+                (System.nanoTime() - startTime) / 1_000_000);
+        return model;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fraud.detection.ml;
+
+/**
+ * 모델 교체 실패 (기존 모델은 유지됨)
+ */
+public class ModelReloadException extends RuntimeException {
+
+    public ModelReloadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원격 스코어러 - MessagePack 전송 (ml.engine=remote, ml.api.transport=msgpack)
+ * 15개 특성을 고정 순서 float32 배열로 /api/vector-predict에 전송하고 확률 배열만 돌려받음
+ *
+ * - 모델이 내부적으로 float32로 비교하므로 JSON 경로와 판정 결과가 같음
+ * - 이상거래 여부(확률 > 0.5)는 EmbeddedFraudScorer와 같은 기준으로 판정, 모델 버전은 X-Model-Version 헤더
+ * - ML 서버가 벡터 엔드포인트를 지원하지 않으면(404/415) JSON 스코어러로 전환
+ */
+@Slf4j
+public class MsgpackFraudScorer implements FraudScorer {
+
+    public static final MediaType MSGPACK = MediaType.parseMediaType("application/x-msgpack");
+    public static final String MODEL_VERSION_HEADER = "X-Model-Version";
+
+    private final RestTemplate restTemplate;
+    private final String url;
+    private final FraudScorer jsonFallback;
+    private final HttpHeaders headers;
+
+    private volatile boolean jsonOnly;
+
+    public MsgpackFraudScorer(RestTemplate restTemplate, String mlApiUrl, FraudScorer jsonFallback) {
+        this.restTemplate = restTemplate;
+        this.url = mlApiUrl + "/api/vector-predict";
+        this.jsonFallback = jsonFallback;
+        this.headers = new HttpHeaders();
+        this.headers.setContentType(MSGPACK);
+        this.headers.setAccept(List.of(MSGPACK));
+    }
+
+    @Override
+    public MLApiResponse score(double[] features) {
+        if (jsonOnly) {
+            return jsonFallback.score(features);
+        }
+        return scoreBatch(List.of(features)).get(0);
+    }
+
+    @Override
+    public List<MLApiResponse> scoreBatch(List<double[]> features) {
+        if (jsonOnly) {
+            return jsonFallback.scoreBatch(features);
+        }
+
+        ResponseEntity<byte[]> response;
+        try {
+            response = restTemplate.postForEntity(url, new HttpEntity<>(encode(features), headers), byte[].class);
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.UnsupportedMediaType e) {
+            log.warn("ML 서버가 MessagePack 전송을 지원하지 않아 JSON 전송으로 전환합니다 - {}", e.getStatusCode());
+            jsonOnly = true;
+            return jsonFallback.scoreBatch(features);
+        }
+
+        if (response.getBody() == null) {
+            throw new IllegalStateException("벡터 예측 응답이 비어 있습니다");
+        }
+        // 빈 헤더는 버전 없음으로 취급 (백엔드 모델 버전으로 대체)
+        String modelVersion = response.getHeaders().getFirst(MODEL_VERSION_HEADER);
+        return decode(response.getBody(), features.size(),
+                modelVersion == null || modelVersion.isBlank() ? null : modelVersion);
+    }
+
+    @Override
+    public ScoringPath path() {
+        return ScoringPath.REMOTE_MODEL;
+    }
+
+    /**
+     * 특성 벡터 목록을 (N, 15) float32 MessagePack 배열로 인코딩
+     */
+    public static byte[] encode(List<double[]> features) {
+        try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+            packer.packArrayHeader(features.size());
+            for (double[] vector : features) {
+                packer.packArrayHeader(vector.length);
+                for (double feature : vector) {
+                    packer.packFloat((float) feature);
+                }
+            }
+            return packer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 확률 배열 응답을 판정 결과로 디코딩
+     */
+    public static List<MLApiResponse> decode(byte[] body, int expectedCount, String modelVersion) {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(body)) {
+            int count = unpacker.unpackArrayHeader();
+            if (count != expectedCount) {
+                throw new IllegalStateException("배치 예측 결과 건수가 요청과 다릅니다");
+            }
+
+            String timestamp = LocalDateTime.now().toString();
+            List<MLApiResponse> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                double probability = unpacker.unpackDouble();
+                results.add(new MLApiResponse(probability > 0.5, probability, null, timestamp, modelVersion));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
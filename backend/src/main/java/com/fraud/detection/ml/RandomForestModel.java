@@ -0,0 +1,156 @@
+package com.fraud.detection.ml;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM 내장 Random Forest 모델
+ * train_model.py가 내보낸 트리 배열(model_trees.json)을 하나의 원시 배열 집합으로 평탄화하여 보관
+ */
+public final class RandomForestModel {
+
+    private static final int LEAF = -1;
+
+    private final int[] roots;
+    private final int[] left;
+    private final int[] right;
+    private final int[] feature;
+    private final double[] threshold;
+    private final double[] value;
+
+    /** 내보낸 모델의 버전과 위험도 임계값 (이전 형식의 파일이면 null) */
+    private final String version;
+    private final RiskThresholds riskThresholds;
+
+    private RandomForestModel(int[] roots, int[] left, int[] right,
+                              int[] feature, double[] threshold, double[] value,
+                              String version, RiskThresholds riskThresholds) {
+        this.roots = roots;
+        this.left = left;
+        this.right = right;
+        this.feature = feature;
+        this.threshold = threshold;
+        this.value = value;
+        this.version = version;
+        this.riskThresholds = riskThresholds;
+    }
+
+    /**
+     * 내보낸 트리 배열(JSON) 로드
+     */
+    public static RandomForestModel load(InputStream in, ObjectMapper objectMapper) throws IOException {
+        ExportedForest forest = objectMapper.readValue(in, ExportedForest.class);
+
+        if (!FeatureVector.FEATURE_NAMES.equals(forest.getFeatureNames())) {
+            throw new IllegalStateException("모델 특성 순서가 일치하지 않습니다: " + forest.getFeatureNames());
+        }
+        if (forest.getTrees() == null || forest.getTrees().isEmpty()) {
+            throw new IllegalStateException("모델에 트리가 없습니다");
+        }
+
+        int nodeCount = 0;
+        for (ExportedTree tree : forest.getTrees()) {
+            nodeCount += tree.getFeature().length;
+        }
+
+        int[] roots = new int[forest.getTrees().size()];
+        int[] left = new int[nodeCount];
+        int[] right = new int[nodeCount];
+        int[] feature = new int[nodeCount];
+        double[] threshold = new double[nodeCount];
+        double[] value = new double[nodeCount];
+
+        // 트리별 노드 인덱스를 전체 배열 기준 오프셋으로 재배치
+        int offset = 0;
+        for (int t = 0; t < roots.length; t++) {
+            ExportedTree tree = forest.getTrees().get(t);
+            int size = tree.getFeature().length;
+            roots[t] = offset;
+            for (int i = 0; i < size; i++) {
+                int node = offset + i;
+                left[node] = tree.getChildrenLeft()[i] == LEAF ? LEAF : offset + tree.getChildrenLeft()[i];
+                right[node] = tree.getChildrenRight()[i] == LEAF ? LEAF : offset + tree.getChildrenRight()[i];
+                feature[node] = tree.getFeature()[i];
+                threshold[node] = tree.getThreshold()[i];
+                value[node] = tree.getValue()[i];
+            }
+            offset += size;
+        }
+
+        return new RandomForestModel(roots, left, right, feature, threshold, value,
+                forest.getModelVersion(), RiskThresholds.from(forest.getRiskThresholds()));
+    }
+
+    /**
+     * 이상거래 확률 계산 (scikit-learn predict_proba[:, 1]과 동일)
+     *
+     * @param features FeatureVector 순서의 특성 벡터
+     */
+    public double predictProbability(double[] features) {
+        double sum = 0;
+        for (int root : roots) {
+            int node = root;
+            while (left[node] != LEAF) {
+                // scikit-learn은 입력을 float32로 변환한 뒤 임계값과 비교
+                node = (float) features[feature[node]] <= threshold[node] ? left[node] : right[node];
+            }
+            sum += value[node];
+        }
+        return sum / roots.length;
+    }
+
+    public int getTreeCount() {
+        return roots.length;
+    }
+
+    public int getNodeCount() {
+        return left.length;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public RiskThresholds getRiskThresholds() {
+        return riskThresholds;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class ExportedForest {
+
+        @JsonProperty("feature_names")
+        private List<String> featureNames;
+
+        @JsonProperty("model_version")
+        private String modelVersion;
+
+        @JsonProperty("risk_thresholds")
+        private Map<String, Double> riskThresholds;
+
+        private List<ExportedTree> trees;
+    }
+
+    @Data
+    static class ExportedTree {
+
+        @JsonProperty("children_left")
+        private int[] childrenLeft;
+
+        @JsonProperty("children_right")
+        private int[] childrenRight;
+
+        private int[] feature;
+
+        private double[] threshold;
+
+        private double[] value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 논블로킹 이상거래 스코어러 (리액티브 분석 경로 /reactive/analyze)
+ * 결과를 기다리는 동안 호출 스레드를 점유하지 않음
+ */
+public interface ReactiveFraudScorer {
+
+    /**
+     * 거래 스코어링
+     *
+     * @param features FeatureVector 순서의 특성 벡터
+     * @return 예측 결과 (구독 시 호출)
+     */
+    Mono<MLApiResponse> score(double[] features);
+
+    /**
+     * 판정 경로
+     */
+    ScoringPath path();
+
+    /**
+     * 블로킹 스코어러를 제한된 스케줄러에서 실행하는 어댑터 (내장 엔진 등)
+     */
+    static ReactiveFraudScorer blocking(FraudScorer scorer, Scheduler scheduler) {
+        return new ReactiveFraudScorer() {
+            @Override
+            public Mono<MLApiResponse> score(double[] features) {
+                return Mono.fromCallable(() -> scorer.score(features)).subscribeOn(scheduler);
+            }
+
+            @Override
+            public ScoringPath path() {
+                return scorer.path();
+            }
+        };
+    }
+}
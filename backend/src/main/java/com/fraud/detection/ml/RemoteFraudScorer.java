@@ -0,0 +1,103 @@
+package com.fraud.detection.ml;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.MLBatchResponse;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 원격 스코어러 (ml.engine=remote)
+ * FastAPI ML 서버의 /api/predict, /api/batch-predict 호출
+ *
+ * 요청 본문은 특성 벡터에서 JSON으로 바로 기록 (요청 DTO를 거치지 않음)
+ */
+public class RemoteFraudScorer implements FraudScorer {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final RestTemplate restTemplate;
+    private final String predictUrl;
+    private final String batchPredictUrl;
+    private final HttpHeaders headers;
+
+    public RemoteFraudScorer(RestTemplate restTemplate, String mlApiUrl) {
+        this.restTemplate = restTemplate;
+        this.predictUrl = mlApiUrl + "/api/predict";
+        this.batchPredictUrl = mlApiUrl + "/api/batch-predict";
+        this.headers = new HttpHeaders();
+        this.headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public MLApiResponse score(double[] features) {
+        return restTemplate.postForObject(predictUrl, new HttpEntity<>(encode(features), headers), MLApiResponse.class);
+    }
+
+    @Override
+    public List<MLApiResponse> scoreBatch(List<double[]> features) {
+        MLBatchResponse response = restTemplate.postForObject(
+                batchPredictUrl, new HttpEntity<>(encodeBatch(features), headers), MLBatchResponse.class);
+
+        if (response == null || response.getResults() == null
+                || response.getResults().size() != features.size()) {
+            throw new IllegalStateException("배치 예측 결과 건수가 요청과 다릅니다");
+        }
+
+        // 배치 결과에는 건별 예측 시각과 모델 버전이 없으므로 배치 값으로 채움
+        for (MLApiResponse result : response.getResults()) {
+            if (result.getTimestamp() == null) {
+                result.setTimestamp(response.getTimestamp());
+            }
+            if (result.getModelVersion() == null) {
+                result.setModelVersion(response.getModelVersion());
+            }
+        }
+        return response.getResults();
+    }
+
+    @Override
+    public ScoringPath path() {
+        return ScoringPath.REMOTE_MODEL;
+    }
+
+    /**
+     * /api/predict 요청 본문 (TransactionRequest)
+     */
+    public static byte[] encode(double[] features) {
+        ByteArrayBuilder out = new ByteArrayBuilder(512);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            FeatureVector.writeJson(generator, features);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * /api/batch-predict 요청 본문 (BatchTransactionRequest)
+     */
+    public static byte[] encodeBatch(List<double[]> features) {
+        ByteArrayBuilder out = new ByteArrayBuilder(512 * features.size());
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("transactions");
+            for (double[] vector : features) {
+                FeatureVector.writeJson(generator, vector);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,12 @@
+package com.fraud.detection.ml;
+
+/**
+ * 위험도 레벨
+ * 경계는 ModelRegistry의 현재 모델과 함께 교체되는 RiskThresholds로 결정
+ */
+public enum RiskLevel {
+
+    LOW,
+    MEDIUM,
+    HIGH
+}
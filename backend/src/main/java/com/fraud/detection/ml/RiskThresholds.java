@@ -0,0 +1,55 @@
+package com.fraud.detection.ml;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 위험도 레벨 경계
+ * 확률이 medium 미만이면 LOW, high 미만이면 MEDIUM, 그 이상이면 HIGH
+ */
+@Value
+public class RiskThresholds {
+
+    /** 학습 스크립트(train_model.py)의 기본 경계 */
+    public static final RiskThresholds DEFAULT = new RiskThresholds(0.3, 0.7);
+
+    double medium;
+    double high;
+
+    public RiskThresholds(double medium, double high) {
+        if (!(0 < medium && medium < high && high <= 1)) {
+            throw new IllegalArgumentException("위험도 임계값은 0 < medium < high <= 1 이어야 합니다: "
+                    + medium + ", " + high);
+        }
+        this.medium = medium;
+        this.high = high;
+    }
+
+    /**
+     * 모델 메타데이터의 risk_thresholds ({"medium": 0.3, "high": 0.7}) 변환, 없으면 null
+     */
+    public static RiskThresholds from(Map<String, ? extends Number> thresholds) {
+        if (thresholds == null) {
+            return null;
+        }
+        Number medium = thresholds.get("medium");
+        Number high = thresholds.get("high");
+        if (medium == null || high == null) {
+            throw new IllegalArgumentException("risk_thresholds에는 medium과 high가 모두 필요합니다: " + thresholds);
+        }
+        return new RiskThresholds(medium.doubleValue(), high.doubleValue());
+    }
+
+    /**
+     * 확률 기반 위험도 레벨 결정
+     */
+    public RiskLevel level(double probability) {
+        if (probability < medium) {
+            return RiskLevel.LOW;
+        } else if (probability < high) {
+            return RiskLevel.MEDIUM;
+        }
+        return RiskLevel.HIGH;
+    }
+}
@@ -0,0 +1,43 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 규칙 기반 대체 스코어러
+ * ML 서버 장애 또는 서킷 브레이커 개방 시 모델 중요도가 높은 특성의 가중합으로 확률을 근사
+ */
+public class RuleBasedFraudScorer implements FraudScorer {
+
+    /** 거래 이력의 model_version에 기록되는 규칙 버전 (가중치를 바꾸면 함께 변경) */
+    public static final String VERSION = "rules-1";
+
+    private static final double MERCHANT_RISK_WEIGHT = 0.35;
+    private static final double AMOUNT_DEVIATION_WEIGHT = 0.25;
+    private static final double DEVICE_CHANGE_WEIGHT = 0.15;
+    private static final double CROSS_BORDER_WEIGHT = 0.15;
+    private static final double IP_CHANGE_WEIGHT = 0.10;
+
+    /** 학습 데이터 기준 정상 거래 편차는 2 미만, 이상거래는 2~10 */
+    private static final double AMOUNT_DEVIATION_BASELINE = 1.0;
+    private static final double AMOUNT_DEVIATION_RANGE = 3.0;
+
+    @Override
+    public MLApiResponse score(double[] features) {
+        double deviation = (features[FeatureVector.AMOUNT_DEVIATION] - AMOUNT_DEVIATION_BASELINE) / AMOUNT_DEVIATION_RANGE;
+
+        double probability = MERCHANT_RISK_WEIGHT * features[FeatureVector.MERCHANT_RISK_SCORE]
+                + AMOUNT_DEVIATION_WEIGHT * Math.min(1.0, Math.max(0.0, deviation))
+                + DEVICE_CHANGE_WEIGHT * features[FeatureVector.DEVICE_CHANGE]
+                + CROSS_BORDER_WEIGHT * features[FeatureVector.CROSS_BORDER]
+                + IP_CHANGE_WEIGHT * features[FeatureVector.IP_CHANGE];
+
+        return new MLApiResponse(probability > 0.5, probability, null, LocalDateTime.now().toString(), VERSION);
+    }
+
+    @Override
+    public ScoringPath path() {
+        return ScoringPath.RULE_FALLBACK;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fraud.detection.ml;
+
+import lombok.Value;
+
+/**
+ * 판정에 사용하는 모델 버전과 위험도 임계값
+ * 교체 시 새 인스턴스를 만들어 참조만 바꾸므로 한 요청 안에서는 항상 같은 조합이 사용됨
+ */
+@Value
+public class ScoringModel {
+
+    /** 모델 버전 (모델 메타데이터의 model_version, 알 수 없으면 null) */
+    String version;
+
+    RiskThresholds thresholds;
+
+    /** 내장 엔진의 트리 배열 (원격 엔진은 null) */
+    RandomForestModel forest;
+}
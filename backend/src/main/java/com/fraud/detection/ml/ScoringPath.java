@@ -0,0 +1,17 @@
+package com.fraud.detection.ml;
+
+/**
+ * 이상거래 판정 경로
+ * 응답과 거래 이력에 어떤 방식으로 점수가 산출되었는지 기록
+ */
+public enum ScoringPath {
+
+    /** FastAPI ML 서버 */
+    REMOTE_MODEL,
+
+    /** JVM 내장 Random Forest */
+    EMBEDDED_MODEL,
+
+    /** ML 장애 시 규칙 기반 대체 점수 */
+    RULE_FALLBACK
+}
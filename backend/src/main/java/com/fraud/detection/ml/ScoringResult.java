@@ -0,0 +1,14 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import lombok.Value;
+
+/**
+ * 스코어링 결과와 판정 경로
+ */
+@Value
+public class ScoringResult {
+
+    MLApiResponse response;
+    ScoringPath path;
+}
@@ -0,0 +1,216 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 섀도 스코어링 (ml.shadow.enabled=true)
+ * 운영 모델로 판정한 요청 중 sample-rate 비율을 후보 모델로도 비동기 채점하여 결과와 지연 시간을 비교
+ *
+ * - 후보 채점은 전용 스레드 풀에서 실행하며, 풀과 대기열이 가득 차면 기다리지 않고 버림 (운영 경로 지연 없음)
+ * - 위험도는 두 모델 모두 운영 모델의 임계값으로 판정하여 모델 차이만 비교
+ * - 불일치 건은 fraud.shadow 로거에 한 줄씩 기록 (일치 건은 DEBUG)
+ * - 메트릭: fraud.shadow.latency{model}, fraud.shadow.comparisons{result},
+ *   fraud.shadow.probability.delta, fraud.shadow.dropped, fraud.shadow.errors
+ */
+@Slf4j
+public class ShadowScorer implements AutoCloseable {
+
+    /** 오프라인 분석용 비교 기록 (logging.level.fraud.shadow=DEBUG이면 일치 건도 기록) */
+    private static final Logger COMPARISON_LOG = LoggerFactory.getLogger("fraud.shadow");
+
+    private final FraudScorer candidate;
+    private final double sampleRate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer primaryLatency;
+    private final Timer candidateLatency;
+    private final Counter agreed;
+    private final Counter riskMismatched;
+    private final Counter fraudMismatched;
+    private final DistributionSummary probabilityDelta;
+    private final Counter dropped;
+    private final Counter errors;
+
+    public ShadowScorer(FraudScorer candidate,
+                        double sampleRate,
+                        int threads,
+                        int queueCapacity,
+                        MeterRegistry meterRegistry) {
+        this.candidate = candidate;
+        this.sampleRate = sampleRate;
+
+        this.primaryLatency = Timer.builder("fraud.shadow.latency")
+                .description("섀도 비교 대상 요청의 모델별 채점 소요 시간")
+                .tag("model", "primary")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.candidateLatency = Timer.builder("fraud.shadow.latency")
+                .description("섀도 비교 대상 요청의 모델별 채점 소요 시간")
+                .tag("model", "candidate")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.agreed = comparisonCounter(meterRegistry, "agree");
+        this.riskMismatched = comparisonCounter(meterRegistry, "risk_mismatch");
+        this.fraudMismatched = comparisonCounter(meterRegistry, "fraud_mismatch");
+        this.probabilityDelta = DistributionSummary.builder("fraud.shadow.probability.delta")
+                .description("운영 모델과 후보 모델의 이상거래 확률 차이 (절대값)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("fraud.shadow.dropped")
+                .description("섀도 스레드 풀 포화로 버린 비교 요청")
+                .register(meterRegistry);
+        this.errors = Counter.builder("fraud.shadow.errors")
+                .description("후보 모델 채점 실패")
+                .register(meterRegistry);
+
+        // 대기열 0이면 유휴 스레드가 있을 때만 넘겨받고, 그 외에는 모두 버림
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ml-shadow");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.increment());
+
+        log.info("섀도 스코어링 활성화 - 샘플 비율: {}, 스레드: {}, 대기열: {}", sampleRate, threads, queueCapacity);
+    }
+
+    private ShadowScorer() {
+        this.candidate = null;
+        this.sampleRate = 0;
+        this.executor = null;
+        this.primaryLatency = null;
+        this.candidateLatency = null;
+        this.agreed = null;
+        this.riskMismatched = null;
+        this.fraudMismatched = null;
+        this.probabilityDelta = null;
+        this.dropped = null;
+        this.errors = null;
+    }
+
+    /**
+     * 섀도 스코어링 비활성화 (submit은 아무 작업도 하지 않음)
+     */
+    public static ShadowScorer disabled() {
+        return new ShadowScorer();
+    }
+
+    private static Counter comparisonCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("fraud.shadow.comparisons")
+                .description("운영 모델과 후보 모델의 판정 비교 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 샘플링된 요청을 후보 모델로 비동기 채점 (요청 스레드는 대기하지 않음)
+     * 규칙 기반 대체 점수로 판정된 요청은 비교하지 않음
+     *
+     * @param transactionId 운영 판정의 거래 ID
+     * @param features 특성 벡터 (변경 금지)
+     * @param primary 운영 모델 결과 (위험도 판정 완료)
+     * @param primaryPath 운영 판정 경로
+     * @param primaryNanos 운영 모델 채점 소요 시간
+     * @param model 운영 판정에 사용한 모델 스냅샷
+     */
+    public void submit(Long transactionId,
+                       double[] features,
+                       MLApiResponse primary,
+                       ScoringPath primaryPath,
+                       long primaryNanos,
+                       ScoringModel model) {
+        if (candidate == null
+                || primaryPath == ScoringPath.RULE_FALLBACK
+                || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        // 응답 DTO는 요청 스레드에서 계속 사용되므로 비교에 필요한 값만 복사
+        boolean primaryFraud = Boolean.TRUE.equals(primary.getIsFraud());
+        double primaryProbability = primary.getFraudProbability();
+        String primaryRisk = primary.getRiskLevel();
+        String primaryVersion = primary.getModelVersion();
+
+        executor.execute(() -> {
+            long startTime = System.nanoTime();
+            MLApiResponse result;
+            double candidateProbability;
+            try {
+                result = candidate.score(features);
+                candidateProbability = result.getFraudProbability();
+            } catch (RuntimeException e) {
+                errors.increment();
+                log.debug("후보 모델 채점 실패 - 거래 ID: {}: {}", transactionId, e.getMessage());
+                return;
+            }
+            long candidateNanos = System.nanoTime() - startTime;
+
+            primaryLatency.record(primaryNanos, TimeUnit.NANOSECONDS);
+            candidateLatency.record(candidateNanos, TimeUnit.NANOSECONDS);
+
+            boolean candidateFraud = Boolean.TRUE.equals(result.getIsFraud());
+            String candidateRisk = model.getThresholds().level(candidateProbability).name();
+            probabilityDelta.record(Math.abs(candidateProbability - primaryProbability));
+
+            String outcome;
+            if (candidateFraud != primaryFraud) {
+                fraudMismatched.increment();
+                outcome = "fraud_mismatch";
+            } else if (!candidateRisk.equals(primaryRisk)) {
+                riskMismatched.increment();
+                outcome = "risk_mismatch";
+            } else {
+                agreed.increment();
+                if (!COMPARISON_LOG.isDebugEnabled()) {
+                    return;
+                }
+                outcome = "agree";
+            }
+
+            String line = String.format(
+                    "result=%s transactionId=%d path=%s"
+                            + " primaryVersion=%s primaryProbability=%.6f primaryRisk=%s primaryFraud=%s primaryMs=%.3f"
+                            + " candidateVersion=%s candidateProbability=%.6f candidateRisk=%s candidateFraud=%s candidateMs=%.3f"
+                            + " features=%s",
+                    outcome, transactionId, primaryPath,
+                    primaryVersion, primaryProbability, primaryRisk, primaryFraud, primaryNanos / 1e6,
+                    result.getModelVersion(), candidateProbability, candidateRisk, candidateFraud, candidateNanos / 1e6,
+                    Arrays.toString(features));
+            if ("agree".equals(outcome)) {
+                COMPARISON_LOG.debug(line);
+            } else {
+                COMPARISON_LOG.info(line);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 진행 중인 비교는 기다리지 않음 (섀도 결과는 버려도 무방)
+     */
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
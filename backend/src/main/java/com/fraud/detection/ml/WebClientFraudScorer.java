@@ -0,0 +1,39 @@
+package com.fraud.detection.ml;
+
+import com.fraud.detection.dto.MLApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 원격 스코어러 (ml.engine=remote)
+ * FastAPI ML 서버의 /api/predict를 WebClient로 호출
+ *
+ * 동시 호출 수는 커넥션 풀(ml.reactive.max-connections)과 대기 한도(pending-acquire-max)로 제한하며,
+ * 한도를 넘은 호출은 대기하지 않고 오류로 완료되어 규칙 기반 대체 스코어링으로 처리
+ */
+public class WebClientFraudScorer implements ReactiveFraudScorer {
+
+    private final WebClient webClient;
+    private final String predictUrl;
+
+    public WebClientFraudScorer(WebClient webClient, String mlApiUrl) {
+        this.webClient = webClient;
+        this.predictUrl = mlApiUrl + "/api/predict";
+    }
+
+    @Override
+    public Mono<MLApiResponse> score(double[] features) {
+        return webClient.post()
+                .uri(predictUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(RemoteFraudScorer.encode(features))
+                .retrieve()
+                .bodyToMono(MLApiResponse.class);
+    }
+
+    @Override
+    public ScoringPath path() {
+        return ScoringPath.REMOTE_MODEL;
+    }
+}
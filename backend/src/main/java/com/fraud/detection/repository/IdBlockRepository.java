@@ -0,0 +1,25 @@
+package com.fraud.detection.repository;
+
+import com.fraud.detection.entity.IdBlock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * ID 블록 Repository
+ */
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+
+    /**
+     * 다음 블록 할당을 위한 행 잠금 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM IdBlock b WHERE b.name = :name")
+    Optional<IdBlock> findForUpdate(@Param("name") String name);
+}
@@ -1,13 +1,20 @@
 package com.fraud.detection.repository;
 
+import com.fraud.detection.dto.TransactionSummary;
 import com.fraud.detection.entity.Transaction;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 거래 데이터 Repository
@@ -15,11 +22,31 @@ import java.util.List;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * 목록 조회용 요약 프로젝션 (필요 컬럼만 조회, 영속성 컨텍스트에 등록되지 않음)
+     */
+    String SUMMARY_SELECT = "SELECT new com.fraud.detection.dto.TransactionSummary(" +
+            "t.id, t.amount, t.isFraud, t.fraudProbability, t.riskLevel, t.scoringPath, t.createdAt) " +
+            "FROM Transaction t ";
+
     /**
      * 이상거래만 조회
      */
     List<Transaction> findByIsFraudTrue();
 
+    /**
+     * 이상거래 키셋 페이지 조회 (createdAt, id 내림차순)
+     * (createdAt, id)가 커서보다 작은 행부터 pageable 크기만큼 반환
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.isFraud = true " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionSummary> findFraudPage(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     /**
      * 위험도 레벨별 조회
      */
@@ -35,6 +62,38 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 특정 기간 이상거래 키셋 페이지 조회 (createdAt, id 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE t.isFraud = true " +
+           "AND t.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionSummary> findFraudPageBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 기간 이상거래 스트리밍 조회 (NDJSON 내보내기용)
+     * MySQL 드라이버가 행 단위로 전달하도록 fetch size를 Integer.MIN_VALUE로 지정
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.isFraud = true " +
+           "AND t.createdAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY t.createdAt, t.id")
+    Stream<Transaction> streamFraudTransactionsBetween(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
     /**
      * 이상거래 통계
      */
@@ -42,14 +101,105 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Long countFraudTransactions();
 
     /**
-     * 최근 거래 조회
+     * 위험도 레벨별 거래 수
+     */
+    @Query("SELECT t.riskLevel, COUNT(t) FROM Transaction t GROUP BY t.riskLevel")
+    List<Object[]> countByRiskLevel();
+
+    /**
+     * 분 단위 거래 수 / 이상거래 수 (통계 시간 버킷 초기화용)
+     * 결과: [연, 월, 일, 시, 분, 거래 수, 이상거래 수]
+     */
+    @Query("SELECT year(t.createdAt), month(t.createdAt), day(t.createdAt), " +
+           "hour(t.createdAt), minute(t.createdAt), COUNT(t), " +
+           "SUM(CASE WHEN t.isFraud = true THEN 1 ELSE 0 END) " +
+           "FROM Transaction t WHERE t.createdAt >= :since " +
+           "GROUP BY year(t.createdAt), month(t.createdAt), day(t.createdAt), " +
+           "hour(t.createdAt), minute(t.createdAt)")
+    List<Object[]> countPerMinuteSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 시간 / 집계 셀 단위 거래 수 / 이상거래 수 (집계 큐브 재구성용)
+     * 결과: [연, 월, 일, 시, 위험도, 해외 결제, 기기 변경, IP 변경, FLOOR(가맹점 점수 * 5), 거래 수, 이상거래 수]
+     */
+    @Query("SELECT year(t.createdAt), month(t.createdAt), day(t.createdAt), hour(t.createdAt), " +
+           "t.riskLevel, t.crossBorder, t.deviceChange, t.ipChange, FLOOR(t.merchantRiskScore * 5), COUNT(t), " +
+           "SUM(CASE WHEN t.isFraud = true THEN 1 ELSE 0 END) " +
+           "FROM Transaction t WHERE t.createdAt >= :since AND t.createdAt < :until " +
+           "GROUP BY year(t.createdAt), month(t.createdAt), day(t.createdAt), hour(t.createdAt), " +
+           "t.riskLevel, t.crossBorder, t.deviceChange, t.ipChange, FLOOR(t.merchantRiskScore * 5)")
+    List<Object[]> countPerHourCellBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until);
+
+    /**
+     * 기간 / ID 범위 내 위험도 레벨별 거래 수 / 이상거래 수 (아카이브 세그먼트와 겹치는 거래 제외용)
+     * 결과: [위험도, 거래 수, 이상거래 수]
+     */
+    @Query("SELECT t.riskLevel, COUNT(t), SUM(CASE WHEN t.isFraud = true THEN 1 ELSE 0 END) " +
+           "FROM Transaction t WHERE t.createdAt >= :since AND t.createdAt < :until " +
+           "AND t.id BETWEEN :minId AND :maxId " +
+           "GROUP BY t.riskLevel")
+    List<Object[]> countByRiskLevelBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                           @Param("minId") long minId, @Param("maxId") long maxId);
+
+    /**
+     * 기간 / ID 범위 내 시간 / 집계 셀 단위 거래 수 (아카이브 세그먼트와 겹치는 거래 제외용, countPerHourCellBetween과 같은 형식)
+     */
+    @Query("SELECT year(t.createdAt), month(t.createdAt), day(t.createdAt), hour(t.createdAt), " +
+           "t.riskLevel, t.crossBorder, t.deviceChange, t.ipChange, FLOOR(t.merchantRiskScore * 5), COUNT(t), " +
+           "SUM(CASE WHEN t.isFraud = true THEN 1 ELSE 0 END) " +
+           "FROM Transaction t WHERE t.createdAt >= :since AND t.createdAt < :until " +
+           "AND t.id BETWEEN :minId AND :maxId " +
+           "GROUP BY year(t.createdAt), month(t.createdAt), day(t.createdAt), hour(t.createdAt), " +
+           "t.riskLevel, t.crossBorder, t.deviceChange, t.ipChange, FLOOR(t.merchantRiskScore * 5)")
+    List<Object[]> countPerHourCellBetween(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                           @Param("minId") long minId, @Param("maxId") long maxId);
+
+    /**
+     * 최대 ID 조회 (ID 블록 초기값 산정용)
+     */
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Transaction t")
+    Long findMaxId();
+
+    /**
+     * 최근 거래 요약 조회 (createdAt 내림차순, pageable 크기만큼)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionSummary> findRecentSummaries(Pageable pageable);
+
+    /**
+     * 특정 시각 이후 높은 위험도 거래 요약 스트리밍 조회 (인메모리 조회 뷰 초기화용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + "WHERE t.riskLevel = 'HIGH' AND t.createdAt >= :since")
+    Stream<TransactionSummary> streamHighRiskSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 가장 오래된 거래 시각 (아카이브 대상 날짜 산정용, 거래가 없으면 null)
+     */
+    @Query("SELECT MIN(t.createdAt) FROM Transaction t")
+    LocalDateTime findMinCreatedAt();
+
+    /**
+     * [from, to) 구간 거래 스트리밍 조회 (아카이브 세그먼트 작성용, createdAt, id 오름차순)
      */
-    List<Transaction> findTop10ByOrderByCreatedAtDesc();
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE t.createdAt >= :from AND t.createdAt < :to " +
+           "ORDER BY t.createdAt, t.id")
+    Stream<Transaction> streamCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     /**
-     * 높은 위험도 거래 조회
+     * [from, to) 구간 거래를 최대 limit건 삭제 (아카이브 후 정리, 잠금 시간을 줄이기 위해 나누어 삭제)
      */
-    @Query("SELECT t FROM Transaction t WHERE t.riskLevel = 'HIGH' " +
-           "ORDER BY t.fraudProbability DESC")
-    List<Transaction> findHighRiskTransactions();
+    @Modifying
+    @Query(value = "DELETE FROM transactions WHERE created_at >= :from AND created_at < :to LIMIT :limit",
+           nativeQuery = true)
+    int deleteCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                             @Param("limit") int limit);
 }
@@ -0,0 +1,244 @@
+package com.fraud.detection.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분석 경로 적응형 동시 처리 한도 (AIMD)
+ * 분석 한 건의 소요 시간(ML 호출 + 저장 요청)을 관측하여 동시 처리 한도를 조절하고, 한도를 넘는 요청은 대기열에 쌓지 않고 즉시 돌려보냄
+ *
+ * - 소요 시간이 latency-target-ms 이하이고 한도의 절반 이상을 사용 중이면 한도를 조금씩 증가 (한도당 1)
+ * - latency-target-ms 초과 또는 실패 시 한도에 backoff-ratio를 곱해 감소
+ *   (한 번 감소한 뒤에는 그 이후 시작된 요청의 결과로만 다시 감소하여, 동시에 끝난 느린 요청들로 한도가 급락하지 않음)
+ * - REALTIME은 한도까지, BULK는 한도 × bulk-share까지만 승인하여 실시간 요청 몫을 남김
+ * - REALTIME은 기다리지 않고, BULK는 bulk-max-wait-ms까지 자리가 나기를 기다림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyLimiter implements InitializingBean {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.admission.initial-limit:100}")
+    private int initialLimit;
+
+    @Value("${app.admission.min-limit:10}")
+    private int minLimit;
+
+    @Value("${app.admission.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${app.admission.latency-target-ms:200}")
+    private long latencyTargetMs;
+
+    @Value("${app.admission.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${app.admission.bulk-share:0.5}")
+    private double bulkShare;
+
+    @Value("${app.admission.bulk-max-wait-ms:2000}")
+    private long bulkMaxWaitMs;
+
+    @Value("${app.admission.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final Map<AnalysisPriority, Counter> rejected = new EnumMap<>(AnalysisPriority.class);
+
+    private volatile double limit;
+    /** 마지막 한도 감소 시각 (lock 보호) */
+    private long lastDecreaseNanos;
+    private long latencyTargetNanos;
+    private Counter degraded;
+
+    @Override
+    public void afterPropertiesSet() {
+        limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        lastDecreaseNanos = System.nanoTime();
+        latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+
+        Gauge.builder("fraud.admission.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("분석 동시 처리 한도")
+                .register(meterRegistry);
+        Gauge.builder("fraud.admission.inflight", inflight, AtomicInteger::get)
+                .description("처리 중인 분석 요청 수")
+                .register(meterRegistry);
+        for (AnalysisPriority priority : AnalysisPriority.values()) {
+            rejected.put(priority, Counter.builder("fraud.admission.rejected")
+                    .description("동시 처리 한도 초과로 승인하지 않은 분석 요청 수")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry));
+        }
+        degraded = Counter.builder("fraud.admission.degraded")
+                .description("한도 초과로 규칙 기반 점수로 응답한 분석 요청 수")
+                .register(meterRegistry);
+
+        log.info("분석 동시 처리 한도 - 사용: {}, 초기: {}, 범위: {} ~ {}, 목표 지연: {}ms",
+                enabled, (int) limit, minLimit, maxLimit, latencyTargetMs);
+    }
+
+    /**
+     * 분석 승인
+     *
+     * @return 승인 시 처리 후 반드시 release해야 하는 허가, 한도 초과 시 null
+     */
+    public Permit acquire(AnalysisPriority priority) {
+        Permit permit = tryEnter(priority);
+        if (permit == null && priority == AnalysisPriority.BULK && bulkMaxWaitMs > 0) {
+            permit = awaitEnter(priority);
+        }
+        if (permit == null) {
+            rejected.get(priority).increment();
+        }
+        return permit;
+    }
+
+    /**
+     * 한도 초과 요청을 거절할 때 던질 예외
+     */
+    public AnalysisOverloadedException overloaded(AnalysisPriority priority) {
+        return new AnalysisOverloadedException(String.format(
+                "분석 요청이 동시 처리 한도(%d)를 넘었습니다 (%s), 잠시 후 다시 시도하세요",
+                (int) limit, priority), retryAfterSeconds);
+    }
+
+    /**
+     * 한도 초과 요청을 규칙 기반 점수로 응답한 경우 기록
+     */
+    public void recordDegraded() {
+        degraded.increment();
+    }
+
+    /**
+     * 한도를 초기값으로 되돌림 (시작 예열 중 조정된 값 폐기)
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+            lastDecreaseNanos = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private Permit tryEnter(AnalysisPriority priority) {
+        int threshold = threshold(priority);
+        while (true) {
+            int current = inflight.get();
+            if (enabled && current >= threshold) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    private Permit awaitEnter(AnalysisPriority priority) {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(bulkMaxWaitMs);
+        lock.lock();
+        try {
+            while (true) {
+                Permit permit = tryEnter(priority);
+                if (permit != null || remaining <= 0) {
+                    return permit;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int threshold(AnalysisPriority priority) {
+        double current = limit;
+        return priority == AnalysisPriority.BULK
+                ? Math.max(1, (int) (current * bulkShare))
+                : Math.max(1, (int) current);
+    }
+
+    /**
+     * 완료된 요청의 소요 시간으로 한도 조절
+     */
+    private void onRelease(Permit permit, long latencyNanos, boolean failed) {
+        inflight.decrementAndGet();
+        lock.lock();
+        try {
+            if (failed || latencyNanos > latencyTargetNanos) {
+                if (permit.startNanos - lastDecreaseNanos > 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                }
+            } else if (permit.inflightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 승인된 분석 한 건 (또는 배치 한 번)
+     */
+    public final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inflightAtStart;
+        private boolean released;
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * 처리 완료
+         *
+         * @param items 처리한 거래 수 (배치는 건당 평균 소요 시간으로 판단)
+         * @param failed 처리 실패 여부 (실패는 지연 초과와 같이 한도 감소)
+         */
+        public void release(int items, boolean failed) {
+            if (released) {
+                return;
+            }
+            released = true;
+            onRelease(this, (System.nanoTime() - startNanos) / Math.max(1, items), failed);
+        }
+
+        public void release(boolean failed) {
+            release(1, failed);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.ml.RiskLevel;
+
+import java.util.Locale;
+
+/**
+ * 집계 큐브 차원
+ * 시간 단위 버킷마다 모든 차원 값의 조합(셀)별 거래 수 / 이상거래 수를 보관하며,
+ * 셀 번호는 각 차원 값의 혼합 기수 표현 (선언 순서가 낮은 자리)
+ */
+public enum AggregationDimension {
+
+    /** LOW / MEDIUM / HIGH / UNKNOWN */
+    RISK_LEVEL("riskLevel", "risk_level", 4),
+    CROSS_BORDER("crossBorder", "cross_border", 2),
+    DEVICE_CHANGE("deviceChange", "device_change", 2),
+    IP_CHANGE("ipChange", "ip_change", 2),
+    /** 가맹점 위험 점수 0.2 단위 구간 5개 + UNKNOWN */
+    MERCHANT_BAND("merchantBand", "merchant_band", 6);
+
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final int BANDS = 5;
+    private static final RiskLevel[] RISK_LEVELS = RiskLevel.values();
+
+    /** 전체 셀 수 */
+    public static final int CELLS;
+
+    static {
+        int cells = 1;
+        for (AggregationDimension dimension : values()) {
+            dimension.stride = cells;
+            cells *= dimension.cardinality;
+        }
+        CELLS = cells;
+    }
+
+    /** 요청 파라미터 이름 */
+    private final String param;
+    /** 응답 필드 이름 */
+    private final String field;
+    private final int cardinality;
+    private int stride;
+
+    AggregationDimension(String param, String field, int cardinality) {
+        this.param = param;
+        this.field = field;
+        this.cardinality = cardinality;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    /**
+     * 셀에서 이 차원의 값 (0 ~ cardinality - 1)
+     */
+    public int valueAt(int cell) {
+        return cell / stride % cardinality;
+    }
+
+    /**
+     * 응답에 표시할 값 (플래그는 0 / 1)
+     */
+    public Object label(int value) {
+        return switch (this) {
+            case RISK_LEVEL -> value < RISK_LEVELS.length ? RISK_LEVELS[value].name() : UNKNOWN;
+            case MERCHANT_BAND -> value < BANDS
+                    ? String.format(Locale.ROOT, "%.1f-%.1f", (double) value / BANDS, (double) (value + 1) / BANDS)
+                    : UNKNOWN;
+            default -> value;
+        };
+    }
+
+    /**
+     * 필터 값 해석 (label과 같은 표기)
+     */
+    public int parse(String value) {
+        for (int i = 0; i < cardinality; i++) {
+            if (String.valueOf(label(i)).equalsIgnoreCase(value.trim())) {
+                return i;
+            }
+        }
+        throw new InvalidRequestParameterException("지원하지 않는 " + param + " 값입니다: " + value);
+    }
+
+    public static AggregationDimension fromParam(String param) {
+        for (AggregationDimension dimension : values()) {
+            if (dimension.param.equalsIgnoreCase(param.trim())) {
+                return dimension;
+            }
+        }
+        throw new InvalidRequestParameterException("지원하지 않는 집계 차원입니다: " + param);
+    }
+
+    /**
+     * 거래 속성으로 셀 번호 계산 (플래그는 1만 참, 위험도 레벨과 점수가 없거나 알 수 없으면 UNKNOWN)
+     */
+    public static int cellOf(String riskLevel, int crossBorder, int deviceChange, int ipChange, double merchantRiskScore) {
+        return cellOfBand(riskLevel, crossBorder, deviceChange, ipChange,
+                Double.isNaN(merchantRiskScore) ? null : (int) Math.floor(merchantRiskScore * BANDS));
+    }
+
+    /**
+     * 가맹점 점수 구간 번호(FLOOR(점수 * 5), 없으면 null)로 셀 번호 계산 (DB 집계 결과용)
+     */
+    public static int cellOfBand(String riskLevel, int crossBorder, int deviceChange, int ipChange, Integer band) {
+        return riskLevelIndex(riskLevel) * RISK_LEVEL.stride
+                + (crossBorder == 1 ? CROSS_BORDER.stride : 0)
+                + (deviceChange == 1 ? DEVICE_CHANGE.stride : 0)
+                + (ipChange == 1 ? IP_CHANGE.stride : 0)
+                + (band == null ? BANDS : Math.max(0, Math.min(BANDS - 1, band))) * MERCHANT_BAND.stride;
+    }
+
+    private static int riskLevelIndex(String riskLevel) {
+        if (riskLevel != null) {
+            for (RiskLevel level : RISK_LEVELS) {
+                if (level.name().equals(riskLevel)) {
+                    return level.ordinal();
+                }
+            }
+        }
+        return RISK_LEVELS.length;
+    }
+}
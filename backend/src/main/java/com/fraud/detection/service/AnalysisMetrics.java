@@ -0,0 +1,114 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.ml.ScoringPath;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 경로 메트릭
+ *
+ * - fraud.analyze.stage{stage=...}: 단계별 소요 시간 (백분위 히스토그램)
+ *   validation 요청 검증 / ml ML 스코어링 호출 (대체 스코어링 제외) /
+ *   persist 저장 요청 (write-behind 대기열 투입 또는 동기 저장) / total ML 호출부터 응답 생성까지
+ * - fraud.decisions{risk_level, fraud, path}: 판정 결과별 건수
+ * - fraud.ml.errors{cause}: ML 호출 실패 건수 (서킷 개방으로 호출하지 않은 경우 cause=CircuitOpen)
+ * - fraud.model.version.unresolved: 스코어러가 보고한 모델 버전의 임계값을 찾지 못해 현재 모델로 판정한 건수
+ */
+@Component
+public class AnalysisMetrics {
+
+    private static final String CIRCUIT_OPEN = "CircuitOpen";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer validation;
+    private final Timer ml;
+    private final Timer persist;
+    private final Timer total;
+    private final Counter unresolvedVersions;
+    private final Map<String, Counter> decisions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> mlErrors = new ConcurrentHashMap<>();
+
+    public AnalysisMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.validation = stageTimer("validation");
+        this.ml = stageTimer("ml");
+        this.persist = stageTimer("persist");
+        this.total = stageTimer("total");
+        this.unresolvedVersions = Counter.builder("fraud.model.version.unresolved")
+                .description("모델 버전을 찾지 못해 현재 모델로 판정한 건수")
+                .register(meterRegistry);
+    }
+
+    public void recordValidation(long nanos) {
+        validation.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMl(long nanos) {
+        ml.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPersist(long nanos) {
+        persist.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTotal(long nanos) {
+        total.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 판정 결과 기록
+     */
+    public void recordDecision(String riskLevel, Boolean isFraud, ScoringPath path) {
+        String level = riskLevel != null ? riskLevel : "UNKNOWN";
+        String fraud = String.valueOf(Boolean.TRUE.equals(isFraud));
+        decisions.computeIfAbsent(level + '|' + fraud + '|' + path, key -> Counter.builder("fraud.decisions")
+                .description("판정 결과별 거래 수")
+                .tag("risk_level", level)
+                .tag("fraud", fraud)
+                .tag("path", path.name())
+                .register(meterRegistry)).increment();
+    }
+
+    /**
+     * ML 호출 실패 기록
+     */
+    public void recordMlError(Throwable error) {
+        mlError(error.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * 서킷 개방으로 ML 호출을 생략한 경우 기록
+     */
+    public void recordCircuitOpen() {
+        mlError(CIRCUIT_OPEN).increment();
+    }
+
+    /**
+     * 보고된 모델 버전의 임계값을 찾지 못한 경우 기록
+     */
+    public void recordUnresolvedVersion() {
+        unresolvedVersions.increment();
+    }
+
+    private Counter mlError(String cause) {
+        return mlErrors.computeIfAbsent(cause, key -> Counter.builder("fraud.ml.errors")
+                .description("ML 호출 실패 건수")
+                .tag("cause", key)
+                .register(meterRegistry));
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("fraud.analyze.stage")
+                .description("분석 단계별 소요 시간")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.fraud.detection.service;
+
+/**
+ * 동시 분석 한도 초과 또는 거래 저장 지연으로 요청을 처리하지 않음 (Retry-After 이후 재시도 가능)
+ */
+public class AnalysisOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AnalysisOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
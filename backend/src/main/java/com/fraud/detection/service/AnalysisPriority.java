@@ -0,0 +1,28 @@
+package com.fraud.detection.service;
+
+import java.util.Locale;
+
+/**
+ * 분석 요청 우선순위 (AdaptiveConcurrencyLimiter 승인 기준)
+ */
+public enum AnalysisPriority {
+
+    /** 실시간 승인 경로 (/analyze, /reactive/analyze, /analyze/event) */
+    REALTIME,
+    /** 대량 분석 / 재처리 (/analyze/batch, X-Traffic-Class: bulk 또는 replay) */
+    BULK;
+
+    /**
+     * X-Traffic-Class 헤더 값 해석 (없으면 REALTIME)
+     */
+    public static AnalysisPriority fromTrafficClass(String trafficClass) {
+        if (trafficClass == null || trafficClass.isBlank()) {
+            return REALTIME;
+        }
+        return switch (trafficClass.trim().toLowerCase(Locale.ROOT)) {
+            case "realtime" -> REALTIME;
+            case "bulk", "replay" -> BULK;
+            default -> throw new InvalidRequestParameterException("지원하지 않는 트래픽 분류입니다: " + trafficClass);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.ScoringModel;
+import com.fraud.detection.ml.ScoringPath;
+
+/**
+ * 단일 분석 결과의 반영 대상
+ * 실제 분석은 거래 ID 예약, 저장 요청, 인메모리 통계 / 집계 / 뷰, 알림, 섀도 채점으로 반영하고,
+ * 시작 예열(AnalysisWarmup)은 아무것도 반영하지 않는 NOOP을 사용
+ */
+interface AnalysisSink {
+
+    AnalysisSink NOOP = new AnalysisSink() {
+        @Override
+        public long nextId() {
+            return 0L;
+        }
+
+        @Override
+        public void write(Transaction transaction) {
+        }
+
+        @Override
+        public void record(Transaction transaction) {
+        }
+
+        @Override
+        public void shadow(Transaction transaction, double[] features, MLApiResponse primary,
+                           ScoringPath path, long scoringNanos, ScoringModel model) {
+        }
+    };
+
+    /**
+     * 거래 ID 발급
+     */
+    long nextId();
+
+    /**
+     * 저장 요청
+     *
+     * @throws AnalysisOverloadedException 저장 재시도 버퍼가 가득 찬 경우
+     */
+    void write(Transaction transaction);
+
+    /**
+     * 인메모리 통계 / 집계 / 조회 뷰 반영 및 알림 발행
+     */
+    void record(Transaction transaction);
+
+    /**
+     * 후보 모델 섀도 채점 요청
+     */
+    void shadow(Transaction transaction, double[] features, MLApiResponse primary,
+                ScoringPath path, long scoringNanos, ScoringModel model);
+}
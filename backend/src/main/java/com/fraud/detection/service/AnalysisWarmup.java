@@ -0,0 +1,167 @@
+package com.fraud.detection.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.dto.TransactionAnalysisResponse;
+import com.fraud.detection.ml.FraudScorer;
+import com.fraud.detection.ml.RemoteFraudScorer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * 분석 경로 예열
+ * 시작 직후 요청 역직렬화 → 실제 단일 분석 경로(FraudDetectionService.warmUpPath) → 응답 직렬화를 iterations회 반복하여,
+ * 첫 요청들이 클래스 로딩과 인터프리터 실행 비용을 떠안지 않도록 JIT 컴파일을 유도
+ *
+ * - 원격 엔진은 루프백의 스텁 ML 서버를 같은 RestTemplate(커넥션 풀, 메시지 변환기)으로 호출
+ * - 내장 엔진은 실제 스코어러를 그대로 사용 (부수 효과 없음)
+ * - 요청마다 금액을 조금씩 바꿔 점수 캐시에 걸리지 않고 매번 스코어링까지 진행
+ * - 저장, 통계, 알림 등은 반영하지 않고, 끝나면 점수 캐시와 동시 처리 한도를 되돌림
+ * - ApplicationRunner가 끝나야 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로 예열 중에는 트래픽을 받지 않음
+ * - 예열 실패는 기동을 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisWarmup implements ApplicationRunner {
+
+    /** ML API 단건 예측 응답 (FastAPI /api/predict 형식) */
+    private static final byte[] STUB_RESPONSE = ("{\"is_fraud\":false,\"fraud_probability\":0.12," +
+            "\"risk_level\":\"LOW\",\"timestamp\":\"2024-12-15T14:30:00.123456\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final FraudDetectionService fraudDetectionService;
+    private final FraudScorer fraudScorer;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.iterations:5000}")
+    private int iterations;
+
+    /** 반복 횟수를 채우지 못해도 이 시간이 지나면 종료 */
+    @Value("${app.warmup.max-duration-ms:30000}")
+    private long maxDurationMs;
+
+    @Value("${ml.engine:remote}")
+    private String engine;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || iterations <= 0) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        HttpServer stub = null;
+        int completed = 0;
+        try {
+            FraudScorer scorer = fraudScorer;
+            if ("remote".equals(engine)) {
+                stub = startStub();
+                scorer = new RemoteFraudScorer(restTemplate, "http://127.0.0.1:" + stub.getAddress().getPort());
+            }
+
+            // 정상 / 이상 거래 샘플을 번갈아 사용 (README 테스트 예시와 같은 값)
+            byte[][] bodies = {
+                    objectMapper.writeValueAsBytes(normalSample()),
+                    objectMapper.writeValueAsBytes(fraudSample())
+            };
+            Function<TransactionAnalysisRequest, TransactionAnalysisResponse> analysis =
+                    fraudDetectionService.warmUpPath(scorer);
+            long deadline = startTime + maxDurationMs;
+            for (; completed < iterations && System.currentTimeMillis() < deadline; completed++) {
+                TransactionAnalysisRequest request =
+                        objectMapper.readValue(bodies[completed & 1], TransactionAnalysisRequest.class);
+                request.setAmount(request.getAmount() + completed);
+                TransactionAnalysisResponse response = analysis.apply(request);
+                objectMapper.writeValueAsBytes(response);
+            }
+
+            log.info("분석 경로 예열 완료 - 엔진: {}, {}회, 소요 시간: {}ms",
+                    engine, completed, System.currentTimeMillis() - startTime);
+        } catch (IOException | RuntimeException e) {
+            log.warn("분석 경로 예열 중단 - {}회 완료: {}", completed, e.getMessage());
+        } finally {
+            fraudDetectionService.finishWarmUp();
+            if (stub != null) {
+                stub.stop(0);
+            }
+        }
+    }
+
+    private static HttpServer startStub() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/predict", AnalysisWarmup::predict);
+        server.start();
+        return server;
+    }
+
+    private static void predict(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, STUB_RESPONSE.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(STUB_RESPONSE);
+        }
+    }
+
+    private static TransactionAnalysisRequest normalSample() {
+        return TransactionAnalysisRequest.builder()
+                .amount(50000.0)
+                .transactionCount1h(1)
+                .transactionCount24h(3)
+                .differentMerchants24h(2)
+                .avgTransactionAmount(45000.0)
+                .timeSinceLastTransaction(7200.0)
+                .isWeekend(0)
+                .isNightTime(0)
+                .merchantRiskScore(0.15)
+                .cardAgeDays(500.0)
+                .transactionVelocity(1.2)
+                .amountDeviation(0.5)
+                .crossBorder(0)
+                .deviceChange(0)
+                .ipChange(0)
+                .build();
+    }
+
+    private static TransactionAnalysisRequest fraudSample() {
+        return TransactionAnalysisRequest.builder()
+                .amount(750000.0)
+                .transactionCount1h(10)
+                .transactionCount24h(25)
+                .differentMerchants24h(15)
+                .avgTransactionAmount(50000.0)
+                .timeSinceLastTransaction(60.0)
+                .isWeekend(0)
+                .isNightTime(1)
+                .merchantRiskScore(0.8)
+                .cardAgeDays(30.0)
+                .transactionVelocity(5.5)
+                .amountDeviation(8.0)
+                .crossBorder(1)
+                .deviceChange(1)
+                .ipChange(1)
+                .build();
+    }
+}
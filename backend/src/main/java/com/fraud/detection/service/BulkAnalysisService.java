@@ -0,0 +1,204 @@
+package com.fraud.detection.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fraud.detection.dto.BulkAnalysisResult;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.dto.TransactionAnalysisResponse;
+import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 거래 분석 서비스
+ * JSON 배열 또는 NDJSON 입력을 한 건씩 읽어 chunk-size 단위로 ML 배치 호출과 일괄 저장을 수행하고,
+ * 결과를 입력 순서대로 NDJSON으로 스트리밍
+ *
+ * - 형식 오류나 검증 실패 항목은 해당 index의 error 항목으로 응답하고 나머지는 계속 처리
+ * - JSON 배열 입력의 구문 오류는 이후 항목을 읽을 수 없으므로 오류 항목을 남기고 중단
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkAnalysisService {
+
+    private final FraudDetectionService fraudDetectionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * JSON 배열 입력 분석
+     *
+     * @return 처리한 항목 수
+     */
+    public long analyzeArray(InputStream in, OutputStream out) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in);
+             ResultWriter writer = new ResultWriter(out)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                writer.add(BulkAnalysisResult.failure(0, "요청 본문은 JSON 배열이어야 합니다"));
+                writer.finish();
+                return 0;
+            }
+
+            long index = 0;
+            while (true) {
+                JsonNode node;
+                try {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        if (parser.currentToken() == JsonToken.END_ARRAY) {
+                            break;
+                        }
+                        // 객체가 아닌 원소는 건너뛰고 오류로 기록
+                        parser.skipChildren();
+                        writer.add(BulkAnalysisResult.failure(index++, "거래 항목은 JSON 객체여야 합니다"));
+                        continue;
+                    }
+                    node = parser.readValueAsTree();
+                } catch (JsonProcessingException e) {
+                    writer.add(BulkAnalysisResult.failure(index, "JSON 구문 오류: " + e.getOriginalMessage()));
+                    log.warn("배치 분석 입력 구문 오류 - {}번째 항목에서 중단", index);
+                    break;
+                }
+                writer.add(index++, node);
+            }
+
+            writer.finish();
+            return index;
+        }
+    }
+
+    /**
+     * NDJSON 입력 분석 (한 줄에 한 건, 빈 줄은 무시)
+     *
+     * @return 처리한 항목 수
+     */
+    public long analyzeNdjson(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try (ResultWriter writer = new ResultWriter(out)) {
+            long index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    writer.add(index, objectMapper.readTree(line));
+                } catch (JsonProcessingException e) {
+                    writer.add(BulkAnalysisResult.failure(index, "JSON 구문 오류: " + e.getOriginalMessage()));
+                }
+                index++;
+            }
+
+            writer.finish();
+            return index;
+        }
+    }
+
+    /**
+     * 입력 순서를 유지하며 결과를 모아 chunk 단위로 분석하고 기록
+     * 검증을 통과한 항목이 chunk-size에 도달하거나 대기 항목이 chunk-size를 넘으면 처리
+     */
+    private final class ResultWriter implements AutoCloseable {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+        private final List<BulkAnalysisResult> pending = new ArrayList<>();
+        private final List<TransactionAnalysisRequest> requests = new ArrayList<>();
+        private final List<BulkAnalysisResult> slots = new ArrayList<>();
+
+        private ResultWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        /**
+         * 파싱된 항목 추가 (변환 및 검증 실패 시 오류 항목으로 기록)
+         */
+        void add(long index, JsonNode node) throws IOException {
+            TransactionAnalysisRequest request;
+            try {
+                request = objectMapper.treeToValue(node, TransactionAnalysisRequest.class);
+            } catch (JsonProcessingException e) {
+                add(BulkAnalysisResult.failure(index, "잘못된 필드 값: " + e.getOriginalMessage()));
+                return;
+            }
+
+            try {
+                fraudDetectionService.validate(request);
+            } catch (ConstraintViolationException e) {
+                add(BulkAnalysisResult.failure(index, e.getMessage()));
+                return;
+            }
+
+            BulkAnalysisResult slot = new BulkAnalysisResult(index, null, null);
+            requests.add(request);
+            slots.add(slot);
+            pending.add(slot);
+            if (requests.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void add(BulkAnalysisResult result) throws IOException {
+            pending.add(result);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void finish() throws IOException {
+            flush();
+        }
+
+        private void flush() throws IOException {
+            if (!requests.isEmpty()) {
+                try {
+                    List<TransactionAnalysisResponse> responses = fraudDetectionService.analyzeBatch(requests);
+                    for (int i = 0; i < slots.size(); i++) {
+                        slots.get(i).setResult(responses.get(i));
+                    }
+                } catch (RuntimeException e) {
+                    log.error("배치 분석 chunk 실패 - {}건", requests.size(), e);
+                    for (BulkAnalysisResult slot : slots) {
+                        slot.setError("분석 실패: " + e.getMessage());
+                    }
+                }
+            }
+
+            for (BulkAnalysisResult result : pending) {
+                writer.writeValue(generator, result);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+
+            pending.clear();
+            requests.clear();
+            slots.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
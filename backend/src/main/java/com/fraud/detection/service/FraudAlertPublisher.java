@@ -0,0 +1,320 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.RiskLevel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 이상거래 알림 (Server-Sent Events)
+ * HIGH 위험도 또는 이상거래로 판정된 거래를 판정 즉시 구독자에게 전달하여 대시보드의 DB 폴링을 대체
+ *
+ * - 구독자마다 buffer-size 크기의 제한된 버퍼를 두고, 가득 차면 가장 오래된 알림을 버림 (느린 구독자 정책)
+ * - 버린 알림이 있으면 다음 전송 전에 dropped 이벤트로 건수를 알려 클라이언트가 조회 API로 보정할 수 있게 함
+ * - 전송은 전용 스레드 풀에서 구독자 단위로 순서대로 처리하여 분석 스레드와 다른 구독자를 막지 않음
+ * - 한 번에 max-events-per-drain건까지만 보내고 다시 예약하여 구독자들이 전송 스레드를 번갈아 사용
+ * - 전송 한 건이 send-timeout-ms를 넘기면 정체된 구독자로 보고 구독을 해제하며, 그 전송이 끝날 때까지
+ *   전송 스레드를 하나 더 두어 다른 구독자의 전송이 막히지 않도록 함 (전송이 끝나면 연결을 닫음)
+ * - 메트릭: fraud.alerts.subscribers, fraud.alerts.published, fraud.alerts.dropped, fraud.alerts.stalled
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FraudAlertPublisher implements InitializingBean, DisposableBean {
+
+    private static final String ALERT_EVENT = "alert";
+    private static final String DROPPED_EVENT = "dropped";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.alerts.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.alerts.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${app.alerts.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.alerts.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.alerts.max-events-per-drain:64}")
+    private int maxEventsPerDrain;
+
+    @Value("${app.alerts.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    /** 예약된 구독 슬롯 수 (확인과 등록 사이에 한도를 넘지 않도록 등록 전에 증가) */
+    private final AtomicInteger subscriberSlots = new AtomicInteger();
+    private ThreadPoolExecutor sender;
+    /** 정체된 전송을 대신해 추가한 전송 스레드 수 */
+    private int extraSenders;
+
+    private Counter published;
+    private Counter dropped;
+    private Counter stalled;
+
+    @Override
+    public void afterPropertiesSet() {
+        // 구독자당 전송 작업은 최대 하나만 대기하므로 작업 대기열은 구독자 수로 제한됨
+        sender = new ThreadPoolExecutor(
+                senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fraud-alert-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("fraud.alerts.subscribers", subscribers, Set::size)
+                .description("실시간 알림 구독자 수")
+                .register(meterRegistry);
+        published = Counter.builder("fraud.alerts.published")
+                .description("구독자에게 전달한 알림 (구독자별 합계)")
+                .register(meterRegistry);
+        dropped = Counter.builder("fraud.alerts.dropped")
+                .description("구독자 버퍼 포화로 버린 알림")
+                .register(meterRegistry);
+        stalled = Counter.builder("fraud.alerts.stalled")
+                .description("전송 정체로 구독을 해제한 구독자")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 구독 등록
+     *
+     * @return 알림을 전송할 SseEmitter
+     * @throws RejectedExecutionException 구독자 수가 max-subscribers에 도달한 경우
+     */
+    public SseEmitter subscribe() {
+        int reserved = subscriberSlots.incrementAndGet();
+        if (reserved > maxSubscribers) {
+            subscriberSlots.decrementAndGet();
+            throw new RejectedExecutionException("실시간 알림 구독자 수가 최대치(" + maxSubscribers + ")에 도달했습니다");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+
+        log.info("실시간 알림 구독 시작 - 구독자: {}명", reserved);
+        return emitter;
+    }
+
+    /**
+     * 판정된 거래 중 HIGH 위험도 또는 이상거래를 모든 구독자 버퍼에 추가 (대기 없음)
+     */
+    public void publish(Transaction transaction) {
+        if (subscribers.isEmpty()
+                || !(Boolean.TRUE.equals(transaction.getIsFraud())
+                || RiskLevel.HIGH.name().equals(transaction.getRiskLevel()))) {
+            return;
+        }
+
+        TransactionSummary alert = TransactionSummary.from(transaction);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(alert);
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 SSE 주석 전송 (끊긴 구독자도 이때 정리)
+     */
+    @Scheduled(fixedDelayString = "${app.alerts.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            subscriber.schedule();
+        }
+    }
+
+    /**
+     * 전송 한 건이 send-timeout-ms를 넘긴 구독자 정리
+     */
+    @Scheduled(fixedDelayString = "${app.alerts.stall-check-ms:1000}")
+    public void expireStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.expireIfStalled(now);
+        }
+    }
+
+    /**
+     * 종료 시 모든 구독을 닫음 (클라이언트는 재연결)
+     */
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        subscriberSlots.set(0);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberSlots.decrementAndGet();
+        }
+    }
+
+    /**
+     * 정체된 전송 수만큼 전송 스레드 수 조정 (최대 크기를 최소 크기 이상으로 유지하는 순서로 변경)
+     */
+    private synchronized void adjustSenders(int delta) {
+        extraSenders += delta;
+        int size = senderThreads + extraSenders;
+        if (delta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TransactionSummary> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong droppedSinceLastSend = new AtomicLong();
+        private volatile boolean heartbeatDue;
+        /** 진행 중인 전송의 시작 시각 (nanoTime, 전송 중이 아니면 0) */
+        private volatile long sendStartedAt;
+        private volatile boolean expired;
+        /** 이 구독자의 정체된 전송 대신 전송 스레드를 추가했는지 (this로 동기화) */
+        private boolean compensated;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * 버퍼가 가득 차면 가장 오래된 알림을 버리고 추가
+         */
+        private void offer(TransactionSummary alert) {
+            while (!buffer.offer(alert)) {
+                if (buffer.poll() != null) {
+                    droppedSinceLastSend.incrementAndGet();
+                    dropped.increment();
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * 진행 중인 전송이 send-timeout-ms를 넘겼으면 구독을 해제하고, 전송이 끝날 때까지 전송 스레드를 하나 추가
+         */
+        private synchronized void expireIfStalled(long now) {
+            long startedAt = sendStartedAt;
+            if (expired || startedAt == 0 || now - startedAt < TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                return;
+            }
+            expired = true;
+            unsubscribe(this);
+            stalled.increment();
+            compensated = true;
+            adjustSenders(1);
+            log.warn("실시간 알림 전송 정체 - {}ms 동안 진행 없음, 구독 해제", sendTimeoutMs);
+        }
+
+        /**
+         * 버퍼에서 최대 max-events-per-drain건 전송 (구독자당 한 스레드만 실행)
+         * 남은 알림은 다시 예약하여 다른 구독자의 전송 뒤에서 이어서 보냄
+         */
+        private void drain() {
+            try {
+                if (heartbeatDue) {
+                    heartbeatDue = false;
+                    send(SseEmitter.event().comment("heartbeat"));
+                }
+                long lost = droppedSinceLastSend.getAndSet(0);
+                if (lost > 0) {
+                    send(SseEmitter.event()
+                            .name(DROPPED_EVENT)
+                            .data(Map.of("count", lost), MediaType.APPLICATION_JSON));
+                }
+                TransactionSummary alert;
+                for (int sent = 0; sent < maxEventsPerDrain && !expired && (alert = buffer.poll()) != null; sent++) {
+                    send(SseEmitter.event()
+                            .id(String.valueOf(alert.getId()))
+                            .name(ALERT_EVENT)
+                            .data(alert, MediaType.APPLICATION_JSON));
+                    published.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊겼거나 이미 완료된 구독 (scheduled를 풀지 않아 이후 전송도 예약하지 않음)
+                unsubscribe(this);
+                log.debug("실시간 알림 구독 종료 - {}", e.getMessage());
+                return;
+            } finally {
+                finishDrain();
+            }
+
+            if (expired) {
+                // 정체로 해제된 구독: 늦게 끝난 전송 이후 연결을 닫아 클라이언트가 재연결하도록 함
+                emitter.complete();
+                return;
+            }
+            scheduled.set(false);
+            if (!buffer.isEmpty() || heartbeatDue) {
+                schedule();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.nanoTime();
+            emitter.send(event);
+            sendStartedAt = 0;
+        }
+
+        private synchronized void finishDrain() {
+            sendStartedAt = 0;
+            if (compensated) {
+                compensated = false;
+                adjustSenders(-1);
+            }
+        }
+    }
+}
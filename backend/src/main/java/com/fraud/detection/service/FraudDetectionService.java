@@ -1,21 +1,53 @@
 package com.fraud.detection.service;
 
+import com.fraud.detection.archive.TransactionArchive;
+import com.fraud.detection.dto.CursorPage;
+import com.fraud.detection.dto.KeysetCursor;
 import com.fraud.detection.dto.MLApiResponse;
 import com.fraud.detection.dto.TransactionAnalysisRequest;
 import com.fraud.detection.dto.TransactionAnalysisResponse;
+import com.fraud.detection.dto.TransactionEventRequest;
+import com.fraud.detection.dto.TransactionSummary;
 import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.FeatureVector;
+import com.fraud.detection.ml.FraudScorer;
+import com.fraud.detection.ml.ModelRegistry;
+import com.fraud.detection.ml.ReactiveFraudScorer;
+import com.fraud.detection.ml.RuleBasedFraudScorer;
+import com.fraud.detection.ml.ScoringModel;
+import com.fraud.detection.ml.ScoringPath;
+import com.fraud.detection.ml.ScoringResult;
+import com.fraud.detection.ml.ShadowScorer;
 import com.fraud.detection.repository.TransactionRepository;
+import com.fraud.detection.velocity.CardVelocityStore;
+import com.fraud.detection.velocity.VelocityFeatures;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * 이상거래 탐지 서비스
@@ -26,152 +58,719 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class FraudDetectionService {
 
+    private static final int RECENT_TRANSACTION_COUNT = 10;
+    /** 00:00 ~ 06:00을 야간으로 간주 */
+    private static final int NIGHT_END_HOUR = 6;
+
     private final TransactionRepository transactionRepository;
-    private final RestTemplate restTemplate;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionWriter transactionWriter;
+    private final TransactionStatistics transactionStatistics;
+    private final TransactionAggregations transactionAggregations;
+    private final TransactionViews transactionViews;
+    private final TransactionArchive transactionArchive;
+    private final FraudAlertPublisher fraudAlertPublisher;
+    private final FraudScorer fraudScorer;
+    private final ReactiveFraudScorer reactiveFraudScorer;
+    private final Scheduler analysisScheduler;
+    private final RuleBasedFraudScorer fallbackScorer;
+    private final CircuitBreaker mlCircuitBreaker;
+    private final ModelRegistry modelRegistry;
+    private final ShadowScorer shadowScorer;
+
+    private final CardVelocityStore cardVelocityStore;
+    private final ScoreCache scoreCache;
+    private final AnalysisMetrics analysisMetrics;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Validator validator;
+
+    @Value("${ml.fallback.enabled:true}")
+    private boolean fallbackEnabled;
+
+    @Value("${app.admission.degrade:true}")
+    private boolean degradeOnOverload;
+
+    @Value("${app.velocity.zone:Asia/Seoul}")
+    private String velocityZone;
+
+    @Value("${app.velocity.max-clock-skew-seconds:300}")
+    private long maxClockSkewSeconds;
 
-    @Value("${ml.api.url:http://localhost:8000}")
-    private String mlApiUrl;
+    private final AnalysisSink liveSink = new LiveSink();
+
+    /**
+     * 거래 분석 (단일, 중복 요청 캐시 적용)
+     * 같은 멱등성 키 또는 같은 특성 값의 요청이 캐시 TTL 안에 다시 오면 최초 결과(거래 ID 포함)를 반환
+     *
+     * @param request 거래 데이터
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 null)
+     * @param priority 동시 처리 한도 승인 우선순위
+     * @return 분석 결과
+     * @throws AnalysisOverloadedException 동시 처리 한도 초과 (REALTIME은 degrade 비활성화 시에만)
+     * @throws IdempotencyKeyMismatchException 같은 멱등성 키로 다른 거래 데이터를 보낸 경우
+     */
+    public TransactionAnalysisResponse analyzeTransaction(TransactionAnalysisRequest request,
+                                                          String idempotencyKey,
+                                                          AnalysisPriority priority) {
+        double[] features = FeatureVector.from(request);
+        return scoreCache.getOrAnalyze(idempotencyKey, features, () -> analyze(request, features, priority, live()));
+    }
 
     /**
      * 거래 분석 (단일)
+     * ML 결과가 나오면 즉시 응답하고, 저장은 TransactionWriter가 비동기 배치로 처리
      * 
      * @param request 거래 데이터
      * @return 분석 결과
      */
-    @Transactional
     public TransactionAnalysisResponse analyzeTransaction(TransactionAnalysisRequest request) {
+        return analyze(request, FeatureVector.from(request), AnalysisPriority.REALTIME, live());
+    }
+
+    /**
+     * 거래 분석 (특성 벡터는 요청당 한 번만 만들어 캐시 키와 스코어링에 함께 사용)
+     * 동시 처리 한도를 넘으면 REALTIME은 규칙 기반 점수로 응답(app.admission.degrade)하고, 그 외에는 과부하로 거절
+     */
+    private TransactionAnalysisResponse analyze(TransactionAnalysisRequest request,
+                                                double[] features,
+                                                AnalysisPriority priority,
+                                                AnalysisContext context) {
         log.info("거래 분석 시작 - 금액: {}", request.getAmount());
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(priority);
+        if (permit == null && !degrades(priority)) {
+            throw concurrencyLimiter.overloaded(priority);
+        }
+        long startTime = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            // 1. ML API 호출 (위험도 임계값은 요청 시작 시점의 모델 기준)
+            ScoringModel model = modelRegistry.current();
+            ScoringResult scoring = permit != null ? callMLApi(features, context) : degrade(features);
+            TransactionAnalysisResponse response = complete(request, features, model, scoring,
+                    System.nanoTime() - startTime, context);
+            failed = false;
+            return response;
+
+        } catch (AnalysisOverloadedException e) {
+            // 저장 재시도 버퍼 포화: 503으로 응답하도록 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("거래 분석 중 오류 발생", e);
+            throw new RuntimeException("거래 분석 실패: " + e.getMessage(), e);
+        } finally {
+            if (permit != null) {
+                permit.release(failed);
+            }
+            context.metrics().recordTotal(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 거래 분석 (리액티브, 단일)
+     * ML 응답을 기다리는 동안 스레드를 점유하지 않고, 응답 이후의 저장 요청은 제한된 분석 스케줄러에서 실행
+     * (중복 요청 캐시는 적용하지 않음)
+     *
+     * @param request 검증을 통과한 거래 데이터
+     * @return 분석 결과 (스케줄러 포화 시 RejectedExecutionException, 동시 처리 한도 초과 시
+     *         degrade 비활성화이면 AnalysisOverloadedException으로 완료)
+     */
+    public Mono<TransactionAnalysisResponse> analyzeTransactionReactive(TransactionAnalysisRequest request) {
+        return Mono.defer(() -> {
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(AnalysisPriority.REALTIME);
+            if (permit == null && !degrades(AnalysisPriority.REALTIME)) {
+                return Mono.error(concurrencyLimiter.overloaded(AnalysisPriority.REALTIME));
+            }
+            double[] features = FeatureVector.from(request);
+            ScoringModel model = modelRegistry.current();
+            long startTime = System.nanoTime();
+
+            Mono<ScoringResult> scoring = permit != null
+                    ? callMLApiReactive(features)
+                    : Mono.fromCallable(() -> degrade(features));
+            return scoring
+                    .publishOn(analysisScheduler)
+                    .map(result -> complete(request, features, model, result, System.nanoTime() - startTime, live()))
+                    .doOnError(e -> log.error("거래 분석 중 오류 발생 (리액티브)", e))
+                    .doFinally(signal -> {
+                        if (permit != null) {
+                            permit.release(signal == SignalType.ON_ERROR);
+                        }
+                        analysisMetrics.recordTotal(System.nanoTime() - startTime);
+                    });
+        });
+    }
+
+    /**
+     * 스코어링 이후 단계: 위험도 판정, 저장 요청, 인메모리 집계, 알림, 섀도 채점, 응답 생성
+     */
+    private TransactionAnalysisResponse complete(TransactionAnalysisRequest request,
+                                                 double[] features,
+                                                 ScoringModel model,
+                                                 ScoringResult scoring,
+                                                 long scoringNanos,
+                                                 AnalysisContext context) {
+        MLApiResponse mlResponse = applyThresholds(scoring.getResponse(), model);
+
+        log.info("ML API 응답 완료 - 소요 시간: {}ms, 경로: {}, 이상거래: {}, 확률: {}",
+                TimeUnit.NANOSECONDS.toMillis(scoringNanos), scoring.getPath(),
+                mlResponse.getIsFraud(), mlResponse.getFraudProbability());
+
+        // 2. 거래 엔티티 생성 및 저장 요청
+        AnalysisSink sink = context.sink();
+        Transaction transaction = TransactionMapper.toTransaction(sink.nextId(), request, mlResponse, scoring.getPath());
+        long persistStart = System.nanoTime();
+        sink.write(transaction);
+        context.metrics().recordPersist(System.nanoTime() - persistStart);
+        sink.record(transaction);
+        context.metrics().recordDecision(mlResponse.getRiskLevel(), mlResponse.getIsFraud(), scoring.getPath());
+
+        log.info("거래 저장 요청 완료 - ID: {}", transaction.getId());
+
+        // 3. 후보 모델 섀도 채점 (샘플링, 비동기, 포화 시 생략)
+        sink.shadow(transaction, features, mlResponse, scoring.getPath(), scoringNanos, model);
+
+        // 4. 응답 생성
+        return TransactionAnalysisResponse.success(
+                transaction.getId(),
+                mlResponse.getIsFraud(),
+                mlResponse.getFraudProbability(),
+                mlResponse.getRiskLevel(),
+                scoring.getPath().name(),
+                mlResponse.getModelVersion()
+        );
+    }
+
+    /**
+     * 시작 예열용 분석 경로 (AnalysisWarmup)
+     * 실제 요청과 같은 검증 → 점수 캐시 → 동시 처리 한도 → 서킷 브레이커 → 스코어링 → 위험도 판정 → 응답 생성 경로를 실행하되,
+     *
+     * - 스코어링은 주어진 스코어러로 하고, 서킷 브레이커는 같은 설정의 예열 전용 인스턴스를 사용
+     * - 분석 메트릭은 별도 레지스트리에 기록하여 대시보드와 백분위에 반영하지 않음
+     * - 거래 ID 예약, 저장, 통계 / 집계 / 뷰, 알림, 섀도 채점은 NOOP으로 반영하지 않음
+     * - 예열이 끝나면 finishWarmUp()으로 점수 캐시와 동시 처리 한도를 되돌려야 함
+     *
+     * @param scorer 예열용 스코어러 (원격 엔진은 로컬 스텁 서버를 호출하는 인스턴스)
+     */
+    public Function<TransactionAnalysisRequest, TransactionAnalysisResponse> warmUpPath(FraudScorer scorer) {
+        AnalysisContext context = new AnalysisContext(
+                scorer,
+                CircuitBreaker.of(mlCircuitBreaker.getName() + "-warmup", mlCircuitBreaker.getCircuitBreakerConfig()),
+                new AnalysisMetrics(new SimpleMeterRegistry()),
+                AnalysisSink.NOOP);
+        return request -> {
+            validate(request, context.metrics());
+            double[] features = FeatureVector.from(request);
+            return scoreCache.getOrAnalyze(null, features,
+                    () -> analyze(request, features, AnalysisPriority.REALTIME, context));
+        };
+    }
+
+    /**
+     * 예열 종료: 예열 요청의 캐시 항목을 비우고 예열 중 조정된 동시 처리 한도를 초기값으로 되돌림
+     */
+    public void finishWarmUp() {
+        scoreCache.invalidateAll();
+        concurrencyLimiter.reset();
+    }
+
+    /**
+     * 요청 검증 (소요 시간을 validation 단계로 기록)
+     *
+     * @throws ConstraintViolationException 검증 실패 시
+     */
+    public void validate(TransactionAnalysisRequest request) {
+        validate(request, analysisMetrics);
+    }
+
+    private void validate(TransactionAnalysisRequest request, AnalysisMetrics metrics) {
+        long startTime = System.nanoTime();
+        Set<ConstraintViolation<TransactionAnalysisRequest>> violations = validator.validate(request);
+        metrics.recordValidation(System.nanoTime() - startTime);
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+    }
+
+    /**
+     * 원시 거래 이벤트 분석
+     * 카드별 이력으로 거래 수, 평균 금액, 거래 속도 등을 계산한 뒤 단일 분석과 동일하게 처리
+     *
+     * - 거래 시각이 수신 시각보다 app.velocity.max-clock-skew-seconds 넘게 미래이면 거절 (카드 이력 시계 고정 방지)
+     * - 이벤트는 분석 전에 카드 이력에 기록하여 같은 카드의 동시 거래가 서로를 보도록 하고,
+     *   분석이 실패하거나 거절되면 기록을 취소하여 재시도가 이중으로 집계되지 않도록 함
+     * - 같은 Idempotency-Key로 재시도하면 이력에 다시 기록하지 않고 최초 결과를 반환 (이벤트 내용이 다르면 거절)
+     *
+     * @param event 카드 ID, 가맹점 ID, 금액, 시각 및 이력과 무관한 특성
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 null)
+     * @param priority 동시 처리 한도 승인 우선순위
+     * @return 분석 결과
+     * @throws ConstraintViolationException 거래 시각이 허용 범위를 넘거나 계산한 특성이 검증에 실패한 경우
+     */
+    public TransactionAnalysisResponse analyzeEvent(TransactionEventRequest event,
+                                                    String idempotencyKey,
+                                                    AnalysisPriority priority) {
+        Instant received = Instant.now();
+        Instant timestamp = event.getTimestamp() != null ? event.getTimestamp() : received;
+        if (timestamp.isAfter(received.plusSeconds(maxClockSkewSeconds))) {
+            throw new ConstraintViolationException(String.format(
+                    "timestamp: 거래 시각이 수신 시각보다 %d초 넘게 미래입니다 (%s)", maxClockSkewSeconds, timestamp),
+                    Set.of());
+        }
+
+        return scoreCache.getOrAnalyzeByKey(idempotencyKey, event, () -> {
+            VelocityFeatures velocity = cardVelocityStore.record(
+                    event.getCardId(), event.getMerchantId(), event.getAmount(), timestamp);
+            try {
+                TransactionAnalysisRequest request = toAnalysisRequest(event, timestamp, velocity);
+                validate(request);
+                return analyze(request, FeatureVector.from(request), priority, live());
+            } catch (RuntimeException e) {
+                cardVelocityStore.forget(event.getCardId(), event.getMerchantId(), event.getAmount(), timestamp);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 이벤트와 속도 특성으로 분석 요청 생성 (주말/야간 여부는 app.velocity.zone 기준 거래 시각으로 판단)
+     */
+    private TransactionAnalysisRequest toAnalysisRequest(TransactionEventRequest event,
+                                                         Instant timestamp,
+                                                         VelocityFeatures velocity) {
+        ZonedDateTime localTime = timestamp.atZone(ZoneId.of(velocityZone));
+        DayOfWeek day = localTime.getDayOfWeek();
+
+        return TransactionAnalysisRequest.builder()
+                .amount(event.getAmount())
+                .transactionCount1h(velocity.getTransactionCount1h())
+                .transactionCount24h(velocity.getTransactionCount24h())
+                .differentMerchants24h(velocity.getDifferentMerchants24h())
+                .avgTransactionAmount(velocity.getAvgTransactionAmount())
+                .timeSinceLastTransaction(velocity.getTimeSinceLastTransaction())
+                .isWeekend(day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY ? 1 : 0)
+                .isNightTime(localTime.getHour() < NIGHT_END_HOUR ? 1 : 0)
+                .merchantRiskScore(event.getMerchantRiskScore())
+                .cardAgeDays(event.getCardAgeDays())
+                .transactionVelocity(velocity.getTransactionVelocity())
+                .amountDeviation(velocity.getAmountDeviation())
+                .crossBorder(event.getCrossBorder())
+                .deviceChange(event.getDeviceChange())
+                .ipChange(event.getIpChange())
+                .build();
+    }
 
+    /**
+     * 거래 분석 (배치)
+     * 한 번의 ML 배치 호출로 판정하고 TransactionWriter에 일괄 저장 요청
+     * 배치 한 번을 BULK 우선순위 요청 하나로 승인받고, 한도 조절에는 건당 평균 소요 시간을 반영
+     *
+     * @param requests 검증을 통과한 거래 데이터
+     * @return 요청 순서와 동일한 분석 결과
+     * @throws AnalysisOverloadedException bulk-max-wait-ms 동안 승인받지 못한 경우
+     */
+    public List<TransactionAnalysisResponse> analyzeBatch(List<TransactionAnalysisRequest> requests) {
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(AnalysisPriority.BULK);
+        if (permit == null) {
+            throw concurrencyLimiter.overloaded(AnalysisPriority.BULK);
+        }
+        boolean failed = true;
         try {
-            // 1. ML API 호출
-            long startTime = System.currentTimeMillis();
-            MLApiResponse mlResponse = callMLApi(request);
-            long elapsedTime = System.currentTimeMillis() - startTime;
+            List<TransactionAnalysisResponse> responses = scoreBatch(requests);
+            failed = false;
+            return responses;
+        } finally {
+            permit.release(requests.size(), failed);
+        }
+    }
 
-            log.info("ML API 응답 완료 - 소요 시간: {}ms, 이상거래: {}, 확률: {}",
-                    elapsedTime, mlResponse.getIsFraud(), mlResponse.getFraudProbability());
+    private List<TransactionAnalysisResponse> scoreBatch(List<TransactionAnalysisRequest> requests) {
+        long startTime = System.currentTimeMillis();
+        List<double[]> features = new ArrayList<>(requests.size());
+        for (TransactionAnalysisRequest request : requests) {
+            features.add(FeatureVector.from(request));
+        }
+        ScoringModel model = modelRegistry.current();
+        List<ScoringResult> scorings = callMLApiBatch(features);
 
-            // 2. 거래 엔티티 생성 및 저장
-            Transaction transaction = buildTransaction(request, mlResponse);
-            Transaction savedTransaction = transactionRepository.save(transaction);
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        List<TransactionAnalysisResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ScoringResult scoring = scorings.get(i);
+            MLApiResponse mlResponse = applyThresholds(scoring.getResponse(), model);
 
-            log.info("거래 저장 완료 - ID: {}", savedTransaction.getId());
+            Transaction transaction = buildTransaction(requests.get(i), mlResponse, scoring.getPath());
+            transactions.add(transaction);
+            analysisMetrics.recordDecision(mlResponse.getRiskLevel(), mlResponse.getIsFraud(), scoring.getPath());
 
-            // 3. 응답 생성
-            return TransactionAnalysisResponse.success(
-                    savedTransaction.getId(),
+            responses.add(TransactionAnalysisResponse.success(
+                    transaction.getId(),
                     mlResponse.getIsFraud(),
                     mlResponse.getFraudProbability(),
-                    mlResponse.getRiskLevel()
-            );
+                    mlResponse.getRiskLevel(),
+                    scoring.getPath().name(),
+                    mlResponse.getModelVersion()
+            ));
+        }
+        // 저장 요청이 거절되면 집계와 알림에도 반영하지 않음
+        long persistStart = System.nanoTime();
+        transactionWriter.writeAll(transactions);
+        analysisMetrics.recordPersist(System.nanoTime() - persistStart);
+        for (Transaction transaction : transactions) {
+            transactionStatistics.record(transaction);
+            transactionAggregations.record(transaction);
+            transactionViews.record(transaction);
+            fraudAlertPublisher.publish(transaction);
+        }
 
-        } catch (Exception e) {
-            log.error("거래 분석 중 오류 발생", e);
-            throw new RuntimeException("거래 분석 실패: " + e.getMessage(), e);
+        log.info("배치 거래 분석 완료 - {}건, 소요 시간: {}ms",
+                requests.size(), System.currentTimeMillis() - startTime);
+        return responses;
+    }
+
+    /**
+     * ML API 배치 호출
+     * 서킷 브레이커에는 성공 / 실패 모두 배치 호출 한 번의 실제 소요 시간을 호출 한 건으로 기록
+     * (건수로 나누지 않으므로 latency-budget-ms를 넘은 배치는 느린 호출로 집계되어, 느린 배치가 평균에 가려지지 않음)
+     */
+    private List<ScoringResult> callMLApiBatch(List<double[]> features) {
+        if (!mlCircuitBreaker.tryAcquirePermission()) {
+            analysisMetrics.recordCircuitOpen();
+            return fallbackBatch(features, "서킷 브레이커 개방", null);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            List<MLApiResponse> responses = fraudScorer.scoreBatch(features);
+            long elapsed = System.nanoTime() - startTime;
+            analysisMetrics.recordMl(elapsed);
+            mlCircuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+
+            List<ScoringResult> results = new ArrayList<>(responses.size());
+            for (MLApiResponse response : responses) {
+                results.add(new ScoringResult(response, fraudScorer.path()));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - startTime;
+            analysisMetrics.recordMl(elapsed);
+            analysisMetrics.recordMlError(e);
+            mlCircuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+            return fallbackBatch(features, "ML 배치 호출 실패", e);
+        }
+    }
+
+    /**
+     * 배치 전체에 규칙 기반 대체 스코어링 적용
+     */
+    private List<ScoringResult> fallbackBatch(List<double[]> features,
+                                              String reason, RuntimeException cause) {
+        if (!fallbackEnabled) {
+            throw cause != null ? cause : new IllegalStateException(reason);
+        }
+
+        log.warn("규칙 기반 대체 스코어링 사용 - 사유: {}, {}건{}", reason, features.size(),
+                cause != null ? " (" + cause.getMessage() + ")" : "");
+        List<ScoringResult> results = new ArrayList<>(features.size());
+        for (double[] vector : features) {
+            results.add(new ScoringResult(fallbackScorer.score(vector), fallbackScorer.path()));
         }
+        return results;
     }
 
     /**
      * ML API 호출
+     * 설정된 스코어링 엔진(ml.engine)으로 위임하며,
+     * 서킷 브레이커가 열려 있거나 호출이 실패하면 규칙 기반 점수로 대체
      */
-    private MLApiResponse callMLApi(TransactionAnalysisRequest request) {
-        String url = mlApiUrl + "/api/predict";
-
-        // 요청 바디 생성
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("amount", request.getAmount());
-        requestBody.put("transaction_count_1h", request.getTransactionCount1h());
-        requestBody.put("transaction_count_24h", request.getTransactionCount24h());
-        requestBody.put("different_merchants_24h", request.getDifferentMerchants24h());
-        requestBody.put("avg_transaction_amount", request.getAvgTransactionAmount());
-        requestBody.put("time_since_last_transaction", request.getTimeSinceLastTransaction());
-        requestBody.put("is_weekend", request.getIsWeekend());
-        requestBody.put("is_night_time", request.getIsNightTime());
-        requestBody.put("merchant_risk_score", request.getMerchantRiskScore());
-        requestBody.put("card_age_days", request.getCardAgeDays());
-        requestBody.put("transaction_velocity", request.getTransactionVelocity());
-        requestBody.put("amount_deviation", request.getAmountDeviation());
-        requestBody.put("cross_border", request.getCrossBorder());
-        requestBody.put("device_change", request.getDeviceChange());
-        requestBody.put("ip_change", request.getIpChange());
-
-        // API 호출
-        return restTemplate.postForObject(url, requestBody, MLApiResponse.class);
-    }
-
-    /**
-     * Transaction 엔티티 빌드
-     */
-    private Transaction buildTransaction(TransactionAnalysisRequest request, MLApiResponse mlResponse) {
-        return Transaction.builder()
-                .amount(request.getAmount())
-                .transactionCount1h(request.getTransactionCount1h())
-                .transactionCount24h(request.getTransactionCount24h())
-                .differentMerchants24h(request.getDifferentMerchants24h())
-                .avgTransactionAmount(request.getAvgTransactionAmount())
-                .timeSinceLastTransaction(request.getTimeSinceLastTransaction())
-                .isWeekend(request.getIsWeekend())
-                .isNightTime(request.getIsNightTime())
-                .merchantRiskScore(request.getMerchantRiskScore())
-                .cardAgeDays(request.getCardAgeDays())
-                .transactionVelocity(request.getTransactionVelocity())
-                .amountDeviation(request.getAmountDeviation())
-                .crossBorder(request.getCrossBorder())
-                .deviceChange(request.getDeviceChange())
-                .ipChange(request.getIpChange())
-                .isFraud(mlResponse.getIsFraud())
-                .fraudProbability(mlResponse.getFraudProbability())
-                .riskLevel(mlResponse.getRiskLevel())
-                .build();
+    private ScoringResult callMLApi(double[] features, AnalysisContext context) {
+        CircuitBreaker breaker = context.breaker();
+        AnalysisMetrics metrics = context.metrics();
+        if (!breaker.tryAcquirePermission()) {
+            metrics.recordCircuitOpen();
+            return fallback(features, "서킷 브레이커 개방", null);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            MLApiResponse response = context.scorer().score(features);
+            long elapsed = System.nanoTime() - startTime;
+            metrics.recordMl(elapsed);
+            breaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            return new ScoringResult(response, context.scorer().path());
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - startTime;
+            metrics.recordMl(elapsed);
+            metrics.recordMlError(e);
+            breaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+            return fallback(features, "ML 호출 실패", e);
+        }
+    }
+
+    /**
+     * ML API 논블로킹 호출 (callMLApi와 같은 서킷 브레이커 / 대체 스코어링 규칙)
+     * 클라이언트 연결이 끊겨 취소되면 서킷 브레이커 호출 허가를 반납
+     */
+    private Mono<ScoringResult> callMLApiReactive(double[] features) {
+        if (!mlCircuitBreaker.tryAcquirePermission()) {
+            analysisMetrics.recordCircuitOpen();
+            return Mono.fromCallable(() -> fallback(features, "서킷 브레이커 개방", null));
+        }
+
+        long startTime = System.nanoTime();
+        return reactiveFraudScorer.score(features)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("ML API 응답이 비어 있습니다")))
+                .map(response -> {
+                    long elapsed = System.nanoTime() - startTime;
+                    analysisMetrics.recordMl(elapsed);
+                    mlCircuitBreaker.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+                    return new ScoringResult(response, reactiveFraudScorer.path());
+                })
+                .onErrorResume(RuntimeException.class, e -> {
+                    long elapsed = System.nanoTime() - startTime;
+                    analysisMetrics.recordMl(elapsed);
+                    analysisMetrics.recordMlError(e);
+                    mlCircuitBreaker.onError(elapsed, TimeUnit.NANOSECONDS, e);
+                    return Mono.fromCallable(() -> fallback(features, "ML 호출 실패", e));
+                })
+                .doOnCancel(mlCircuitBreaker::releasePermission);
+    }
+
+    /**
+     * 한도 초과 요청을 규칙 기반 점수로 응답할지 여부 (재처리 결과가 규칙 점수로 남지 않도록 REALTIME만)
+     */
+    private boolean degrades(AnalysisPriority priority) {
+        return priority == AnalysisPriority.REALTIME && degradeOnOverload && fallbackEnabled;
+    }
+
+    /**
+     * 한도 초과 요청의 규칙 기반 스코어링 (과부하 중 요청마다 경고 로그를 남기지 않도록 메트릭으로만 기록)
+     */
+    private ScoringResult degrade(double[] features) {
+        concurrencyLimiter.recordDegraded();
+        return new ScoringResult(fallbackScorer.score(features), fallbackScorer.path());
+    }
+
+    /**
+     * 규칙 기반 대체 스코어링
+     */
+    private ScoringResult fallback(double[] features, String reason, RuntimeException cause) {
+        if (!fallbackEnabled) {
+            throw cause != null ? cause : new IllegalStateException(reason);
+        }
+
+        log.warn("규칙 기반 대체 스코어링 사용 - 사유: {}{}", reason,
+                cause != null ? " (" + cause.getMessage() + ")" : "");
+        return new ScoringResult(fallbackScorer.score(features), fallbackScorer.path());
+    }
+
+    /**
+     * 위험도 레벨을 백엔드가 보유한 모델 임계값으로 판정 (ML 서버의 risk_level은 사용하지 않음)
+     * 스코어러가 보고한 모델 버전의 임계값을 사용 (교체 진행 중이거나 ML 복제본마다 모델이 다른 경우)
+     * 버전을 보고하지 않았거나 알 수 없는 버전이면 요청 시작 시의 모델로 판정하고,
+     * 위험도와 모델 버전은 항상 판정에 사용한 같은 모델의 것으로 기록 (규칙 기반 대체 점수는 rules-1 유지)
+     */
+    private MLApiResponse applyThresholds(MLApiResponse response, ScoringModel snapshot) {
+        String reported = response.getModelVersion();
+        if (RuleBasedFraudScorer.VERSION.equals(reported)) {
+            response.setRiskLevel(snapshot.getThresholds().level(response.getFraudProbability()).name());
+            return response;
+        }
+        if (reported != null && reported.isBlank()) {
+            reported = null;
+        }
+        ScoringModel model = modelRegistry.resolve(snapshot, reported);
+        if (model == null) {
+            log.warn("알 수 없는 모델 버전 - 보고: {}, 현재 모델로 판정: {}", reported, snapshot.getVersion());
+            analysisMetrics.recordUnresolvedVersion();
+            model = snapshot;
+        }
+        response.setRiskLevel(model.getThresholds().level(response.getFraudProbability()).name());
+        response.setModelVersion(model.getVersion());
+        return response;
+    }
+
+    /**
+     * 현재 판정 모델 정보
+     */
+    public Map<String, Object> getModelInfo() {
+        return modelInfo(modelRegistry.current());
+    }
+
+    /**
+     * 새 모델로 무중단 교체 (로드와 예열을 마친 뒤 교체, 실패 시 기존 모델 유지)
+     */
+    public Map<String, Object> reloadModel() {
+        return modelInfo(modelRegistry.reload());
+    }
+
+    private static Map<String, Object> modelInfo(ScoringModel model) {
+        Map<String, Object> thresholds = new LinkedHashMap<>();
+        thresholds.put("medium", model.getThresholds().getMedium());
+        thresholds.put("high", model.getThresholds().getHigh());
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("modelVersion", model.getVersion());
+        info.put("riskThresholds", thresholds);
+        return info;
+    }
+
+    /**
+     * 실제 분석의 스코어러, 서킷 브레이커, 메트릭, 결과 반영 대상
+     */
+    private AnalysisContext live() {
+        return new AnalysisContext(fraudScorer, mlCircuitBreaker, analysisMetrics, liveSink);
+    }
+
+    /**
+     * Transaction 엔티티 빌드 (ID 발급 포함)
+     */
+    private Transaction buildTransaction(TransactionAnalysisRequest request,
+                                         MLApiResponse mlResponse,
+                                         ScoringPath scoringPath) {
+        return TransactionMapper.toTransaction(transactionIdGenerator.nextId(), request, mlResponse, scoringPath);
     }
 
     /**
-     * 이상거래 목록 조회
+     * 이상거래 목록 조회 (키셋 페이지)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
      */
     @Transactional(readOnly = true)
-    public List<Transaction> getFraudTransactions() {
-        return transactionRepository.findByIsFraudTrue();
+    public CursorPage<TransactionSummary> getFraudTransactions(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<TransactionSummary> items = transactionRepository.findFraudPage(
+                KeysetCursor.timeKey(after), KeysetCursor.idKey(after), PageRequest.of(0, size));
+        return new CursorPage<>(items, nextTimeCursor(items, size));
     }
 
     /**
-     * 특정 기간 이상거래 조회
+     * 특정 기간 이상거래 조회 (키셋 페이지)
+     * DB와 아카이브에서 각각 커서 이후 size건씩 읽어 (createdAt, id) 내림차순으로 병합
      */
     @Transactional(readOnly = true)
-    public List<Transaction> getFraudTransactionsBetween(LocalDateTime start, LocalDateTime end) {
-        return transactionRepository.findFraudTransactionsBetween(start, end);
+    public CursorPage<TransactionSummary> getFraudTransactionsBetween(LocalDateTime start, LocalDateTime end,
+                                                                      String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        LocalDateTime afterTime = KeysetCursor.timeKey(after);
+        long afterId = KeysetCursor.idKey(after);
+
+        List<TransactionSummary> hot = transactionRepository.findFraudPageBetween(
+                start, end, afterTime, afterId, PageRequest.of(0, size));
+        List<TransactionSummary> archived = transactionArchive.findFraudPage(start, end, afterTime, afterId, size);
+        List<TransactionSummary> items = archived.isEmpty() ? hot : mergeByTimeDesc(hot, archived, size);
+        return new CursorPage<>(items, nextTimeCursor(items, size));
     }
 
     /**
      * 통계 조회
+     * DB 조회 없이 인메모리 카운터에서 반환
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getStatistics() {
-        long totalCount = transactionRepository.count();
-        long fraudCount = transactionRepository.countFraudTransactions();
-        double fraudRate = totalCount > 0 ? (double) fraudCount / totalCount * 100 : 0;
+        return transactionStatistics.snapshot();
+    }
+
+    /**
+     * 최근 거래 조회
+     * DB 조회 없이 인메모리 링 버퍼에서 반환
+     */
+    public List<TransactionSummary> getRecentTransactions() {
+        return transactionViews.recent(RECENT_TRANSACTION_COUNT);
+    }
+
+    /**
+     * 높은 위험도 거래 조회 (키셋 페이지, 확률 내림차순)
+     * DB 조회 없이 최근 window-hours시간의 인메모리 상위 확률 뷰에서 반환
+     */
+    public CursorPage<TransactionSummary> getHighRiskTransactions(String cursor, int size) {
+        return transactionViews.highRisk(KeysetCursor.decode(cursor), size);
+    }
 
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total_transactions", totalCount);
-        stats.put("fraud_transactions", fraudCount);
-        stats.put("fraud_rate", String.format("%.2f%%", fraudRate));
-        stats.put("normal_transactions", totalCount - fraudCount);
+    /**
+     * (createdAt, id) 내림차순 두 목록을 limit건까지 병합
+     * 아카이브 작업이 세그먼트를 기록한 뒤 DB에서 삭제하기 전에는 같은 거래가 양쪽에 있으므로 한 번만 포함
+     */
+    private static List<TransactionSummary> mergeByTimeDesc(List<TransactionSummary> left,
+                                                            List<TransactionSummary> right, int limit) {
+        List<TransactionSummary> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < left.size() || j < right.size())) {
+            int order;
+            if (i == left.size()) {
+                order = 1;
+            } else if (j == right.size()) {
+                order = -1;
+            } else {
+                TransactionSummary a = left.get(i);
+                TransactionSummary b = right.get(j);
+                order = b.getCreatedAt().compareTo(a.getCreatedAt());
+                if (order == 0) {
+                    order = Long.compare(b.getId(), a.getId());
+                }
+            }
 
-        return stats;
+            if (order <= 0) {
+                merged.add(left.get(i++));
+                if (order == 0) {
+                    j++;
+                }
+            } else {
+                merged.add(right.get(j++));
+            }
+        }
+        return merged;
     }
 
     /**
-     * 최근 거래 조회
+     * (createdAt, id) 기준 다음 페이지 커서, 페이지가 가득 차지 않았으면 마지막 페이지
      */
-    @Transactional(readOnly = true)
-    public List<Transaction> getRecentTransactions() {
-        return transactionRepository.findTop10ByOrderByCreatedAtDesc();
+    private static String nextTimeCursor(List<TransactionSummary> items, int size) {
+        if (items.size() < size) {
+            return null;
+        }
+        TransactionSummary last = items.get(items.size() - 1);
+        return KeysetCursor.ofTime(last.getCreatedAt(), last.getId()).encode();
     }
 
     /**
-     * 높은 위험도 거래 조회
+     * 단일 분석 경로가 사용하는 스코어러, 서킷 브레이커, 메트릭, 결과 반영 대상 (실제 분석 / 시작 예열)
      */
-    @Transactional(readOnly = true)
-    public List<Transaction> getHighRiskTransactions() {
-        return transactionRepository.findHighRiskTransactions();
+    private record AnalysisContext(FraudScorer scorer,
+                                   CircuitBreaker breaker,
+                                   AnalysisMetrics metrics,
+                                   AnalysisSink sink) {
+    }
+
+    /**
+     * 실제 분석 결과 반영: ID 블록에서 발급, TransactionWriter 저장 요청, 인메모리 집계, 알림, 섀도 채점
+     */
+    private final class LiveSink implements AnalysisSink {
+
+        @Override
+        public long nextId() {
+            return transactionIdGenerator.nextId();
+        }
+
+        @Override
+        public void write(Transaction transaction) {
+            transactionWriter.write(transaction);
+        }
+
+        @Override
+        public void record(Transaction transaction) {
+            transactionStatistics.record(transaction);
+            transactionAggregations.record(transaction);
+            transactionViews.record(transaction);
+            fraudAlertPublisher.publish(transaction);
+        }
+
+        @Override
+        public void shadow(Transaction transaction, double[] features, MLApiResponse primary,
+                           ScoringPath path, long scoringNanos, ScoringModel model) {
+            shadowScorer.submit(transaction.getId(), features, primary, path, scoringNanos, model);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.fraud.detection.service;
+
+/**
+ * 이미 사용한 멱등성 키로 다른 내용의 요청을 보냄 (같은 키는 같은 요청의 재시도에만 사용)
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
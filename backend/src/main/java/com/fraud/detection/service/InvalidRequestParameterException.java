@@ -0,0 +1,12 @@
+package com.fraud.detection.service;
+
+/**
+ * 잘못된 요청 파라미터 / 헤더 값 (클라이언트 오류, 400으로 응답)
+ * 서버 내부의 IllegalArgumentException과 구분하기 위한 전용 예외
+ */
+public class InvalidRequestParameterException extends RuntimeException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
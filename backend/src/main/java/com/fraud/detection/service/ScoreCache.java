@@ -0,0 +1,180 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.dto.TransactionAnalysisResponse;
+import com.fraud.detection.ml.ScoringPath;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 중복/재시도 거래 점수 캐시
+ * 같은 Idempotency-Key 또는 15개 특성 값이 모두 같은 요청은 ML 호출과 저장 없이 최초 분석 결과를 반환
+ *
+ * - 동시에 들어온 중복 요청은 최초 요청의 분석이 끝날 때까지 기다렸다가 같은 결과를 받음
+ * - 멱등성 키에는 요청 본문 지문(특성 벡터 또는 이벤트)을 함께 보관하고, 같은 키에 다른 본문이 오면 IdempotencyKeyMismatchException
+ * - 분석이 실패하면 캐시에 남기지 않음
+ * - 규칙 기반 대체 점수(RULE_FALLBACK)는 재시도 시 모델 점수를 받을 수 있도록 캐시하지 않음
+ * - 메트릭: cache.gets{cache=fraud-score, result=hit|miss}, cache.evictions, cache.size
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScoreCache implements InitializingBean {
+
+    private static final String CACHE_NAME = "fraud-score";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.score-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.score-cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${app.score-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private AsyncCache<Object, Cached> cache;
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+
+        log.info("점수 캐시 {} - 최대: {}건, TTL: {}초", enabled ? "활성화" : "비활성화", maxSize, ttlSeconds);
+    }
+
+    /**
+     * 캐시된 결과를 반환하거나, 없으면 analyzer로 분석한 뒤 캐시
+     *
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 특성 값으로 판단)
+     * @param features 요청의 특성 벡터 (키로 보관되므로 이후 변경 금지)
+     * @throws IdempotencyKeyMismatchException 같은 멱등성 키로 다른 특성 값의 요청이 온 경우
+     */
+    public TransactionAnalysisResponse getOrAnalyze(String idempotencyKey,
+                                                    double[] features,
+                                                    Supplier<TransactionAnalysisResponse> analyzer) {
+        if (!enabled) {
+            return analyzer.get();
+        }
+
+        FeatureKey featureKey = new FeatureKey(features);
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return lookup(new IdempotencyKey(idempotencyKey), featureKey, analyzer);
+        }
+        return lookup(featureKey, null, analyzer);
+    }
+
+    /**
+     * 멱등성 키가 있을 때만 캐시하고, 없으면 analyzer로 바로 분석
+     * (원시 이벤트 분석용: 특성 값이 카드 이력에 따라 달라지므로 특성 값으로는 중복을 판단하지 않음)
+     *
+     * @param fingerprint 요청 본문 지문 (equals로 비교)
+     * @throws IdempotencyKeyMismatchException 같은 멱등성 키로 다른 본문의 요청이 온 경우
+     */
+    public TransactionAnalysisResponse getOrAnalyzeByKey(String idempotencyKey,
+                                                         Object fingerprint,
+                                                         Supplier<TransactionAnalysisResponse> analyzer) {
+        if (!enabled || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return analyzer.get();
+        }
+        return lookup(new IdempotencyKey(idempotencyKey), fingerprint, analyzer);
+    }
+
+    /**
+     * 캐시 전체 비움 (시작 예열 결과가 실제 요청에 반환되지 않도록)
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private TransactionAnalysisResponse lookup(Object key,
+                                               Object fingerprint,
+                                               Supplier<TransactionAnalysisResponse> analyzer) {
+        CompletableFuture<Cached> created = new CompletableFuture<>();
+        CompletableFuture<Cached> cached = cache.get(key, (k, executor) -> created);
+        if (cached != created) {
+            Cached entry = join(cached);
+            if (!Objects.equals(entry.fingerprint(), fingerprint)) {
+                throw new IdempotencyKeyMismatchException(
+                        "같은 Idempotency-Key로 다른 내용의 요청을 보냈습니다 (ID: " + entry.response().getTransactionId() + ")");
+            }
+            log.info("중복 거래 요청 - 캐시된 결과 반환 (ID: {})", entry.response().getTransactionId());
+            return entry.response();
+        }
+
+        try {
+            TransactionAnalysisResponse response = analyzer.get();
+            created.complete(new Cached(fingerprint, response));
+            if (ScoringPath.RULE_FALLBACK.name().equals(response.getScoringPath())) {
+                cache.asMap().remove(key, created);
+            }
+            return response;
+        } catch (RuntimeException e) {
+            // 실패한 future는 캐시에서 자동 제거되고, 대기 중인 중복 요청에도 같은 예외 전달
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Cached join(CompletableFuture<Cached> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record IdempotencyKey(String key) {
+    }
+
+    /**
+     * 캐시 값 (멱등성 키 항목은 요청 본문 지문을 함께 보관, 특성 키 항목은 null)
+     */
+    private record Cached(Object fingerprint, TransactionAnalysisResponse response) {
+    }
+
+    /**
+     * 특성 벡터 키 (15개 값이 모두 같을 때만 일치)
+     */
+    private static final class FeatureKey {
+
+        private final double[] features;
+        private final int hash;
+
+        private FeatureKey(double[] features) {
+            this.features = features;
+            this.hash = Arrays.hashCode(features);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FeatureKey other && hash == other.hash && Arrays.equals(features, other.features);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
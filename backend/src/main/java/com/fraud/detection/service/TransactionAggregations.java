@@ -0,0 +1,312 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.archive.ArchiveSegment;
+import com.fraud.detection.archive.TransactionArchive;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.repository.TransactionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인메모리 집계 큐브
+ * 시간 단위 버킷마다 AggregationDimension 셀(위험도 × 해외 결제 × 기기 변경 × IP 변경 × 가맹점 점수 구간)별
+ * 거래 수 / 이상거래 수를 보관하여, 기간 / 차원별 이상거래 비율을 원본 행 스캔 없이 계산
+ *
+ * - 스코어링 시점에 해당 시간 버킷의 셀을 증분
+ * - 시작 시 DB(GROUP BY)와 거래 아카이브에서 retention-days 기간을 재구성
+ * - 1년 조회도 최대 8,760개 버킷 × 192셀만 합산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionAggregations implements SmartInitializingSingleton {
+
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.aggregations.retention-days:400}")
+    private int retentionDays;
+
+    /** false면 시작 시 재구성하지 않음 (AppCDS 학습 실행용) */
+    @Value("${app.preload.enabled:true}")
+    private boolean preload;
+
+    /** 시간 버킷 (키: LocalDateTime을 UTC로 간주한 epoch 시) */
+    private final ConcurrentSkipListMap<Long, HourCube> hours = new ConcurrentSkipListMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 웹 서버가 요청을 받기 전에 전체 기간 재구성
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Gauge.builder("fraud.aggregations.hours", hours, Map::size).register(meterRegistry);
+        if (!preload) {
+            log.info("집계 큐브 재구성 생략 (app.preload.enabled=false)");
+            return;
+        }
+        rebuild(null);
+    }
+
+    /**
+     * 스코어링된 거래 반영
+     */
+    public void record(Transaction transaction) {
+        int cell = AggregationDimension.cellOf(
+                transaction.getRiskLevel(),
+                flag(transaction.getCrossBorder()),
+                flag(transaction.getDeviceChange()),
+                flag(transaction.getIpChange()),
+                transaction.getMerchantRiskScore() != null ? transaction.getMerchantRiskScore() : Double.NaN);
+        hours.computeIfAbsent(epochHour(transaction.getCreatedAt()), hour -> new HourCube())
+                .add(cell, 1, Boolean.TRUE.equals(transaction.getIsFraud()) ? 1 : 0);
+    }
+
+    /**
+     * DB와 아카이브에서 집계 재구성 (DB와 세그먼트에 함께 남은 거래는 한 번만 집계)
+     * 현재 시간 버킷은 스코어링 시점 증분을 유지하고, 그 이전 버킷만 재구성 결과로 교체
+     *
+     * @param before 재구성할 마지막 시각 (미포함), null이면 현재 시간 버킷까지 모두 재구성 (시작 시)
+     * @return 재구성 결과 (버킷 수, 거래 수, 소요 시간)
+     */
+    public Map<String, Object> rebuild(LocalDateTime before) {
+        rebuildLock.lock();
+        try {
+            long startTime = System.currentTimeMillis();
+            LocalDateTime since = LocalDateTime.now().minusDays(retentionDays).truncatedTo(ChronoUnit.DAYS);
+            LocalDateTime until = before != null ? before : LocalDateTime.now().plusHours(1);
+            long untilHour = epochHour(until);
+
+            NavigableMap<Long, HourCube> rebuilt = new TreeMap<>();
+            long[] transactions = new long[1];
+
+            transactions[0] += addHourCells(rebuilt, transactionRepository.countPerHourCellBetween(since, until), 1);
+
+            // 아카이브 중단으로 DB에도 남은 세그먼트 범위의 거래는 아래 세그먼트 스캔으로만 반영
+            for (ArchiveSegment segment : transactionArchive.segmentsSince(transactionRepository.findMinCreatedAt())) {
+                LocalDateTime dayStart = segment.getDay().atStartOfDay();
+                LocalDateTime dayEnd = segment.getDay().plusDays(1).atStartOfDay();
+                if (dayStart.isBefore(since) || !dayStart.isBefore(until)) {
+                    continue;
+                }
+                transactions[0] += addHourCells(rebuilt, transactionRepository.countPerHourCellBetween(
+                        dayStart, dayEnd.isBefore(until) ? dayEnd : until,
+                        segment.getMinId(), segment.getMaxId()), -1);
+            }
+
+            transactionArchive.scan(since.toLocalDate(), LocalDate.now(),
+                    (createdAt, fraud, riskLevel, crossBorder, deviceChange, ipChange, merchantRiskScore) -> {
+                        long hour = Math.floorDiv(createdAt, SECONDS_PER_HOUR);
+                        if (hour >= untilHour) {
+                            return;
+                        }
+                        int cell = AggregationDimension.cellOf(riskLevel, crossBorder, deviceChange, ipChange,
+                                merchantRiskScore);
+                        rebuilt.computeIfAbsent(hour, key -> new HourCube()).add(cell, 1, fraud ? 1 : 0);
+                        transactions[0]++;
+                    });
+
+            // 재구성 구간의 버킷을 결과로 교체하고, 결과에 없는 기존 버킷(보관 기간 이전 등)은 제거
+            hours.putAll(rebuilt);
+            hours.headMap(untilHour).keySet().removeIf(hour -> !rebuilt.containsKey(hour));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("hours", rebuilt.size());
+            result.put("transactions", transactions[0]);
+            result.put("elapsed_ms", System.currentTimeMillis() - startTime);
+            log.info("집계 큐브 재구성 완료 - 버킷: {}개, 거래: {}건, 소요 시간: {}ms",
+                    rebuilt.size(), transactions[0], result.get("elapsed_ms"));
+            return result;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * countPerHourCellBetween 결과를 시간 버킷에 sign 방향으로 반영
+     *
+     * @return 반영한 거래 수 (sign 포함)
+     */
+    private static long addHourCells(NavigableMap<Long, HourCube> target, List<Object[]> rows, int sign) {
+        long transactions = 0;
+        for (Object[] row : rows) {
+            LocalDateTime hour = LocalDateTime.of(
+                    ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(), 0);
+            int cell = AggregationDimension.cellOfBand((String) row[4], flag((Integer) row[5]),
+                    flag((Integer) row[6]), flag((Integer) row[7]),
+                    row[8] != null ? ((Number) row[8]).intValue() : null);
+            long total = sign * ((Number) row[9]).longValue();
+            target.computeIfAbsent(epochHour(hour), key -> new HourCube())
+                    .add(cell, total, row[10] != null ? sign * ((Number) row[10]).longValue() : 0);
+            transactions += total;
+        }
+        return transactions;
+    }
+
+    /**
+     * 보관 기간이 지난 시간 버킷 제거
+     */
+    @Scheduled(fixedDelayString = "${app.aggregations.sweep-interval-ms:3600000}")
+    public void evictExpired() {
+        hours.headMap(epochHour(LocalDateTime.now().minusDays(retentionDays))).clear();
+    }
+
+    /**
+     * 기간 / 차원별 집계
+     *
+     * @param start 시작 시각 (해당 시간 버킷부터 포함)
+     * @param end 종료 시각 (해당 시간 버킷까지 포함)
+     * @param interval 시간 단위 (hour / day / total)
+     * @param groupBy 그룹 차원 (순서대로 응답 필드 구성)
+     * @param filters 차원별 허용 값 (AggregationDimension.parse 결과)
+     */
+    public Map<String, Object> query(LocalDateTime start, LocalDateTime end, String interval,
+                                     List<AggregationDimension> groupBy, Map<AggregationDimension, Integer> filters) {
+        if (end.isBefore(start)) {
+            throw new InvalidRequestParameterException("종료 시각이 시작 시각보다 빠릅니다");
+        }
+        long hoursPerKey = switch (interval) {
+            case "hour" -> 1;
+            case "day" -> 24;
+            case "total" -> 0;
+            default -> throw new InvalidRequestParameterException("지원하지 않는 interval 값입니다: " + interval);
+        };
+
+        // 셀별 필터 통과 여부와 그룹 번호를 미리 계산
+        int groupCount = 1;
+        for (AggregationDimension dimension : groupBy) {
+            groupCount *= dimension.getCardinality();
+        }
+        int groups = groupCount;
+        int[] groupOf = new int[AggregationDimension.CELLS];
+        for (int cell = 0; cell < AggregationDimension.CELLS; cell++) {
+            int group = 0;
+            for (AggregationDimension dimension : groupBy) {
+                group = group * dimension.getCardinality() + dimension.valueAt(cell);
+            }
+            for (Map.Entry<AggregationDimension, Integer> filter : filters.entrySet()) {
+                if (filter.getKey().valueAt(cell) != filter.getValue()) {
+                    group = -1;
+                    break;
+                }
+            }
+            groupOf[cell] = group;
+        }
+
+        TreeMap<Long, long[]> buckets = new TreeMap<>();
+        for (Map.Entry<Long, HourCube> entry : hours.subMap(epochHour(start), true, epochHour(end), true).entrySet()) {
+            long key = hoursPerKey == 0 ? 0 : Math.floorDiv(entry.getKey(), hoursPerKey) * hoursPerKey;
+            long[] counts = buckets.computeIfAbsent(key, k -> new long[2 * groups]);
+            entry.getValue().addTo(counts, groupOf);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<Long, long[]> bucket : buckets.entrySet()) {
+            long[] counts = bucket.getValue();
+            for (int group = 0; group < groups; group++) {
+                long total = counts[2 * group];
+                if (total == 0) {
+                    continue;
+                }
+                Map<String, Object> row = new LinkedHashMap<>();
+                if (hoursPerKey == 1) {
+                    row.put("hour", hourStart(bucket.getKey()).toString());
+                } else if (hoursPerKey == 24) {
+                    row.put("day", hourStart(bucket.getKey()).toLocalDate().toString());
+                }
+                int remainder = group;
+                Object[] labels = new Object[groupBy.size()];
+                for (int i = groupBy.size() - 1; i >= 0; i--) {
+                    AggregationDimension dimension = groupBy.get(i);
+                    labels[i] = dimension.label(remainder % dimension.getCardinality());
+                    remainder /= dimension.getCardinality();
+                }
+                for (int i = 0; i < labels.length; i++) {
+                    row.put(groupBy.get(i).getField(), labels[i]);
+                }
+                long fraud = counts[2 * group + 1];
+                row.put("total_transactions", total);
+                row.put("fraud_transactions", fraud);
+                row.put("fraud_rate", String.format("%.2f%%", (double) fraud / total * 100));
+                rows.add(row);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("start", hourStart(epochHour(start)).toString());
+        result.put("end", hourStart(epochHour(end)).plusHours(1).toString());
+        result.put("interval", interval);
+        result.put("group_by", groupBy.stream().map(AggregationDimension::getField).toList());
+        result.put("rows", rows);
+        return result;
+    }
+
+    private static int flag(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static long epochHour(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+    }
+
+    private static LocalDateTime hourStart(long epochHour) {
+        return LocalDateTime.ofEpochSecond(epochHour * SECONDS_PER_HOUR, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 한 시간의 셀별 [거래 수, 이상거래 수]
+     * 1년치 버킷을 상시 보관하므로 LongAdder 대신 버킷당 하나의 AtomicLongArray (192셀 × 2 × 8바이트) 사용
+     */
+    private static final class HourCube {
+
+        private final AtomicLongArray counts = new AtomicLongArray(2 * AggregationDimension.CELLS);
+
+        private void add(int cell, long total, long fraud) {
+            counts.addAndGet(2 * cell, total);
+            if (fraud != 0) {
+                counts.addAndGet(2 * cell + 1, fraud);
+            }
+        }
+
+        /**
+         * 필터를 통과한 셀을 그룹별로 합산 (groupOf가 -1인 셀은 제외)
+         */
+        private void addTo(long[] target, int[] groupOf) {
+            for (int cell = 0; cell < groupOf.length; cell++) {
+                int group = groupOf[cell];
+                if (group < 0) {
+                    continue;
+                }
+                long total = counts.get(2 * cell);
+                if (total != 0) {
+                    target[2 * group] += total;
+                    target[2 * group + 1] += counts.get(2 * cell + 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fraud.detection.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fraud.detection.archive.TransactionArchive;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 거래 내보내기 서비스
+ * DB 커서를 스트리밍하며 한 행씩 NDJSON으로 기록하여 결과 건수와 무관하게 메모리 사용량을 일정하게 유지
+ * 아카이브로 옮긴 거래는 세그먼트(하루 단위)를 차례로 읽어 DB 결과와 시간순으로 병합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 특정 기간 이상거래 NDJSON 내보내기 (createdAt 오름차순)
+     *
+     * @return 내보낸 건수
+     */
+    @Transactional(readOnly = true)
+    public long exportFraudTransactions(LocalDateTime start, LocalDateTime end, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+
+        try (Stream<Transaction> stream = transactionRepository.streamFraudTransactionsBetween(start, end);
+             Stream<Transaction> archived = transactionArchive.streamFraudTransactions(start, end);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Transaction> hot = stream.iterator();
+            Iterator<Transaction> cold = archived.iterator();
+            Transaction hotNext = next(hot);
+            Transaction coldNext = next(cold);
+            while (hotNext != null || coldNext != null) {
+                int order = hotNext == null ? 1 : coldNext == null ? -1 : compare(hotNext, coldNext);
+                Transaction transaction = order <= 0 ? hotNext : coldNext;
+                writer.writeValue(generator, transaction);
+                generator.writeRaw('\n');
+
+                if (order <= 0) {
+                    // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 즉시 분리
+                    entityManager.detach(hotNext);
+                    hotNext = next(hot);
+                }
+                if (order >= 0) {
+                    // 아카이브 작업 도중 양쪽에 있는 같은 거래는 한 번만 기록
+                    coldNext = next(cold);
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+
+        log.info("이상거래 내보내기 완료 - {} ~ {}, {}건", start, end, count);
+        return count;
+    }
+
+    private static int compare(Transaction left, Transaction right) {
+        int order = left.getCreatedAt().compareTo(right.getCreatedAt());
+        return order != 0 ? order : Long.compare(left.getId(), right.getId());
+    }
+
+    private static Transaction next(Iterator<Transaction> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,105 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.archive.TransactionArchive;
+import com.fraud.detection.entity.IdBlock;
+import com.fraud.detection.repository.IdBlockRepository;
+import com.fraud.detection.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 거래 ID 생성기
+ * DB의 id_blocks 테이블에서 block-size 단위로 ID 구간을 예약하고 메모리에서 순차 발급 (hi/lo)
+ * 저장 전에 ID를 확정할 수 있어 비동기 저장 중에도 transactionId를 즉시 반환 가능
+ *
+ * - 블록 예약이 교착 상태 / 락 대기 초과 등 일시적 오류로 실패하면 최대 MAX_ATTEMPTS회까지 재시도
+ * - 블록 행이 없으면 DB와 아카이브 세그먼트 중 가장 큰 ID 다음 값부터 시작 (아카이브 이후 재생성 시 ID 재사용 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionIdGenerator {
+
+    private static final String SEQUENCE_NAME = "transactions";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BACKOFF_MS = 20;
+
+    private final IdBlockRepository idBlockRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.id-block-size:1000}")
+    private int blockSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    /**
+     * 다음 거래 ID 발급
+     */
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                allocateBlock();
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void allocateBlock() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long start = 0;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                start = template.execute(status -> reserve());
+                break;
+            } catch (TransientDataAccessException | DataIntegrityViolationException e) {
+                // 교착 상태 / 락 대기 초과, 또는 여러 인스턴스가 동시에 최초 블록 행을 생성한 경우
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("거래 ID 블록 예약 재시도 ({}/{}) - {}", attempt, MAX_ATTEMPTS, e.getMessage());
+                backoff(attempt);
+            }
+        }
+
+        next = start;
+        limit = start + blockSize;
+        log.debug("거래 ID 블록 할당 - {} ~ {}", next, limit - 1);
+    }
+
+    private long reserve() {
+        IdBlock block = idBlockRepository.findForUpdate(SEQUENCE_NAME)
+                .orElseGet(() -> idBlockRepository.saveAndFlush(
+                        new IdBlock(SEQUENCE_NAME, Math.max(transactionRepository.findMaxId(),
+                                transactionArchive.maxId()) + 1)));
+
+        long start = block.getNextValue();
+        block.setNextValue(start + blockSize);
+        return start;
+    }
+
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
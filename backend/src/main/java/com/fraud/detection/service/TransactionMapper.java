@@ -0,0 +1,52 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.dto.MLApiResponse;
+import com.fraud.detection.dto.TransactionAnalysisRequest;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.ScoringPath;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 요청과 판정 결과를 Transaction 엔티티로 변환
+ */
+public final class TransactionMapper {
+
+    private TransactionMapper() {
+    }
+
+    /**
+     * 요청 특성과 ML 판정 결과로 저장할 엔티티 생성 (생성 시각은 분석 시점)
+     */
+    public static Transaction toTransaction(Long id,
+                                            TransactionAnalysisRequest request,
+                                            MLApiResponse mlResponse,
+                                            ScoringPath scoringPath) {
+        // 요청마다 호출되므로 빌더 대신 setter로 직접 채움
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setAmount(request.getAmount());
+        transaction.setTransactionCount1h(request.getTransactionCount1h());
+        transaction.setTransactionCount24h(request.getTransactionCount24h());
+        transaction.setDifferentMerchants24h(request.getDifferentMerchants24h());
+        transaction.setAvgTransactionAmount(request.getAvgTransactionAmount());
+        transaction.setTimeSinceLastTransaction(request.getTimeSinceLastTransaction());
+        transaction.setIsWeekend(request.getIsWeekend());
+        transaction.setIsNightTime(request.getIsNightTime());
+        transaction.setMerchantRiskScore(request.getMerchantRiskScore());
+        transaction.setCardAgeDays(request.getCardAgeDays());
+        transaction.setTransactionVelocity(request.getTransactionVelocity());
+        transaction.setAmountDeviation(request.getAmountDeviation());
+        transaction.setCrossBorder(request.getCrossBorder());
+        transaction.setDeviceChange(request.getDeviceChange());
+        transaction.setIpChange(request.getIpChange());
+        transaction.setIsFraud(mlResponse.getIsFraud());
+        transaction.setFraudProbability(mlResponse.getFraudProbability());
+        transaction.setRiskLevel(mlResponse.getRiskLevel());
+        transaction.setScoringPath(scoringPath.name());
+        transaction.setModelVersion(mlResponse.getModelVersion());
+        transaction.setCreatedAt(LocalDateTime.now());
+        transaction.setNewEntity(true);
+        return transaction;
+    }
+}
@@ -0,0 +1,216 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.archive.ArchiveSegment;
+import com.fraud.detection.archive.TransactionArchive;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인메모리 거래 통계
+ * 스코어링 시점에 LongAdder(스트라이프 카운터)로 증분 집계하여 COUNT 쿼리 없이 통계를 제공
+ *
+ * - 전체 / 이상거래 / 위험도 레벨별 누적 건수
+ * - 최근 24시간 분 단위 링 버퍼 (1분 / 1시간 / 24시간 롤링 이상거래 비율)
+ * - 시작 시 DB와 아카이브에서 한 번만 초기값을 적재 (아카이브로 옮겨도 누적 카운터는 그대로 유지)
+ *   아카이브가 중단되어 DB와 세그먼트에 함께 남은 거래는 세그먼트 쪽만 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionStatistics implements SmartInitializingSingleton {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+
+    /** false면 시작 시 DB / 아카이브를 읽지 않음 (AppCDS 학습 실행용) */
+    @Value("${app.preload.enabled:true}")
+    private boolean preload;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder fraud = new LongAdder();
+    private final Map<String, LongAdder> byRiskLevel = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<MinuteBucket> minutes = new AtomicReferenceArray<>(MINUTES_PER_DAY);
+
+    /**
+     * 웹 서버가 요청을 받기 전에 DB + 아카이브 기준 초기값 적재
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!preload) {
+            log.info("인메모리 통계 초기값 적재 생략 (app.preload.enabled=false)");
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        total.add(transactionRepository.count());
+        fraud.add(transactionRepository.countFraudTransactions());
+        for (Object[] row : transactionRepository.countByRiskLevel()) {
+            if (row[0] != null) {
+                riskLevelCounter((String) row[0]).add(((Number) row[1]).longValue());
+            }
+        }
+
+        total.add(transactionArchive.totalCount());
+        fraud.add(transactionArchive.fraudCount());
+        transactionArchive.riskLevelCounts().forEach((level, count) -> riskLevelCounter(level).add(count));
+
+        // 세그먼트 날짜 / ID 범위에 속한 DB 거래는 이미 아카이브 집계에 포함됨
+        for (ArchiveSegment segment : transactionArchive.segmentsSince(transactionRepository.findMinCreatedAt())) {
+            for (Object[] row : transactionRepository.countByRiskLevelBetween(segment.getDay().atStartOfDay(),
+                    segment.getDay().plusDays(1).atStartOfDay(), segment.getMinId(), segment.getMaxId())) {
+                long count = ((Number) row[1]).longValue();
+                total.add(-count);
+                fraud.add(row[2] != null ? -((Number) row[2]).longValue() : 0);
+                if (row[0] != null) {
+                    riskLevelCounter((String) row[0]).add(-count);
+                }
+            }
+        }
+
+        List<Object[]> perMinute = transactionRepository.countPerMinuteSince(
+                LocalDateTime.now().minusMinutes(MINUTES_PER_DAY));
+        for (Object[] row : perMinute) {
+            LocalDateTime minute = LocalDateTime.of(
+                    ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue(), ((Number) row[4]).intValue());
+            MinuteBucket bucket = bucket(epochMinute(minute));
+            bucket.total.add(((Number) row[5]).longValue());
+            bucket.fraud.add(row[6] != null ? ((Number) row[6]).longValue() : 0);
+        }
+
+        log.info("인메모리 통계 초기화 완료 - 전체: {}건, 이상거래: {}건, 소요 시간: {}ms",
+                total.sum(), fraud.sum(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 스코어링된 거래 반영
+     */
+    public void record(Transaction transaction) {
+        boolean isFraud = Boolean.TRUE.equals(transaction.getIsFraud());
+
+        total.increment();
+        if (isFraud) {
+            fraud.increment();
+        }
+        if (transaction.getRiskLevel() != null) {
+            riskLevelCounter(transaction.getRiskLevel()).increment();
+        }
+
+        MinuteBucket bucket = bucket(epochMinute(transaction.getCreatedAt()));
+        bucket.total.increment();
+        if (isFraud) {
+            bucket.fraud.increment();
+        }
+    }
+
+    /**
+     * 통계 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        long totalCount = total.sum();
+        long fraudCount = fraud.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total_transactions", totalCount);
+        stats.put("fraud_transactions", fraudCount);
+        stats.put("fraud_rate", formatRate(fraudCount, totalCount));
+        stats.put("normal_transactions", totalCount - fraudCount);
+
+        Map<String, Long> riskLevels = new LinkedHashMap<>();
+        byRiskLevel.forEach((level, count) -> riskLevels.put(level, count.sum()));
+        stats.put("risk_level_counts", riskLevels);
+
+        long nowMinute = epochMinute(LocalDateTime.now());
+        stats.put("last_1m", window(nowMinute, 1));
+        stats.put("last_1h", window(nowMinute, 60));
+        stats.put("last_24h", window(nowMinute, MINUTES_PER_DAY));
+        stats.put("archive", transactionArchive.summary());
+        return stats;
+    }
+
+    /**
+     * 최근 windowMinutes분 동안의 집계 (현재 분 포함)
+     */
+    private Map<String, Object> window(long nowMinute, int windowMinutes) {
+        long windowTotal = 0;
+        long windowFraud = 0;
+        for (int i = 0; i < windowMinutes; i++) {
+            long minute = nowMinute - i;
+            MinuteBucket bucket = minutes.get(index(minute));
+            if (bucket != null && bucket.minute == minute) {
+                windowTotal += bucket.total.sum();
+                windowFraud += bucket.fraud.sum();
+            }
+        }
+
+        Map<String, Object> window = new LinkedHashMap<>();
+        window.put("total_transactions", windowTotal);
+        window.put("fraud_transactions", windowFraud);
+        window.put("fraud_rate", formatRate(windowFraud, windowTotal));
+        return window;
+    }
+
+    /**
+     * 해당 분의 버킷 조회, 링 버퍼 슬롯이 이전 분의 버킷이면 새 버킷으로 교체 (CAS)
+     */
+    private MinuteBucket bucket(long minute) {
+        int index = index(minute);
+        while (true) {
+            MinuteBucket current = minutes.get(index);
+            if (current != null && current.minute >= minute) {
+                // 24시간보다 오래된 분은 더 최신 버킷이 슬롯을 차지하므로 집계에서 제외
+                return current.minute == minute ? current : new MinuteBucket(minute);
+            }
+            MinuteBucket created = new MinuteBucket(minute);
+            if (minutes.compareAndSet(index, current, created)) {
+                return created;
+            }
+        }
+    }
+
+    private LongAdder riskLevelCounter(String riskLevel) {
+        return byRiskLevel.computeIfAbsent(riskLevel, level -> new LongAdder());
+    }
+
+    private static int index(long minute) {
+        return (int) Math.floorMod(minute, (long) MINUTES_PER_DAY);
+    }
+
+    private static long epochMinute(LocalDateTime dateTime) {
+        long epochMillis = dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return TimeUnit.MILLISECONDS.toMinutes(epochMillis);
+    }
+
+    private static String formatRate(long fraudCount, long totalCount) {
+        double fraudRate = totalCount > 0 ? (double) fraudCount / totalCount * 100 : 0;
+        return String.format("%.2f%%", fraudRate);
+    }
+
+    private static final class MinuteBucket {
+
+        private final long minute;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder fraud = new LongAdder();
+
+        private MinuteBucket(long minute) {
+            this.minute = minute;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.dto.CursorPage;
+import com.fraud.detection.dto.KeysetCursor;
+import com.fraud.detection.dto.TransactionSummary;
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.ml.RiskLevel;
+import com.fraud.detection.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 거래 조회 뷰
+ * 스코어링 시점에 갱신하여 대시보드의 최근 거래 / 높은 위험도 거래 조회를 DB 없이 제공
+ *
+ * - 최근 거래: 마지막 recent-capacity건을 보관하는 잠금 없는 링 버퍼 (시퀀스 번호로 슬롯 유효성 확인)
+ * - 높은 위험도 거래: 시간 단위 버킷마다 확률 상위 top-k건을 보관하는 최소 힙, 최근 window-hours시간만 조회
+ * - DB는 시작 시 한 번만 읽어 초기값을 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionViews implements SmartInitializingSingleton {
+
+    /** 확률 오름차순 (힙의 최소값이 가장 먼저 밀려남), 같은 확률은 ID 오름차순 */
+    private static final Comparator<TransactionSummary> BY_SCORE = Comparator
+            .comparingDouble(TransactionSummary::getFraudProbability)
+            .thenComparingLong(TransactionSummary::getId);
+
+    private static final Comparator<TransactionSummary> BY_TIME = Comparator
+            .comparing(TransactionSummary::getCreatedAt)
+            .thenComparingLong(TransactionSummary::getId);
+
+    private final TransactionRepository transactionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /** false면 시작 시 DB를 읽지 않음 (AppCDS 학습 실행용) */
+    @Value("${app.preload.enabled:true}")
+    private boolean preload;
+
+    @Value("${app.views.recent-capacity:256}")
+    private int recentCapacity;
+
+    @Value("${app.views.high-risk.window-hours:24}")
+    private int windowHours;
+
+    @Value("${app.views.high-risk.top-k:1000}")
+    private int topK;
+
+    private AtomicReferenceArray<RecentSlot> recent;
+    private int recentMask;
+    private final AtomicLong recentSequence = new AtomicLong();
+
+    private AtomicReferenceArray<HourBucket> hours;
+
+    /**
+     * 웹 서버가 요청을 받기 전에 DB 기준 초기값 적재
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 슬롯 인덱스를 비트 마스크로 계산하도록 2의 거듭제곱으로 올림
+        int capacity = Integer.highestOneBit(Math.max(recentCapacity, 2) - 1) << 1;
+        recent = new AtomicReferenceArray<>(capacity);
+        recentMask = capacity - 1;
+        hours = new AtomicReferenceArray<>(windowHours);
+
+        if (!preload) {
+            log.info("인메모리 조회 뷰 초기값 적재 생략 (app.preload.enabled=false)");
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+
+        List<TransactionSummary> latest = transactionRepository.findRecentSummaries(PageRequest.of(0, capacity));
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            addRecent(latest.get(i));
+        }
+
+        LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(windowHours - 1L);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long highRiskCount = readOnly.execute(status -> {
+            try (Stream<TransactionSummary> rows = transactionRepository.streamHighRiskSince(since)) {
+                long count = 0;
+                for (Iterator<TransactionSummary> it = rows.iterator(); it.hasNext(); count++) {
+                    addHighRisk(it.next());
+                }
+                return count;
+            }
+        });
+
+        log.info("인메모리 조회 뷰 초기화 완료 - 최근 거래: {}건, 높은 위험도 거래: {}건 (최근 {}시간), 소요 시간: {}ms",
+                latest.size(), highRiskCount, windowHours, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 스코어링된 거래 반영 (HIGH 위험도만 상위 확률 뷰에 추가)
+     */
+    public void record(Transaction transaction) {
+        TransactionSummary summary = TransactionSummary.from(transaction);
+        addRecent(summary);
+        if (RiskLevel.HIGH.name().equals(summary.getRiskLevel())) {
+            addHighRisk(summary);
+        }
+    }
+
+    /**
+     * 최근 거래 (createdAt, id 내림차순)
+     *
+     * @param limit 최대 건수 (recent-capacity 이하)
+     */
+    public List<TransactionSummary> recent(int limit) {
+        long end = recentSequence.get();
+        long start = Math.max(0, end - recent.length());
+        // 동시 기록 중인 슬롯은 건너뛰고, 기록 순서와 시각 순서가 어긋난 경우를 위해 여유분까지 모아 정렬
+        int wanted = Math.min(recent.length(), limit * 2);
+
+        List<TransactionSummary> items = new ArrayList<>(wanted);
+        for (long sequence = end - 1; sequence >= start && items.size() < wanted; sequence--) {
+            RecentSlot slot = recent.get((int) (sequence & recentMask));
+            if (slot != null && slot.sequence == sequence) {
+                items.add(slot.summary);
+            }
+        }
+        items.sort(BY_TIME.reversed());
+        return items.size() > limit ? new ArrayList<>(items.subList(0, limit)) : items;
+    }
+
+    /**
+     * 최근 window-hours시간의 높은 위험도 거래 키셋 페이지 (fraudProbability, id 내림차순)
+     * 시간 버킷마다 상위 top-k건만 보관하므로, 기간 전체의 상위 top-k건은 항상 정확하고 그 이후는 시간당 top-k건까지만 포함
+     */
+    public CursorPage<TransactionSummary> highRisk(KeysetCursor after, int size) {
+        double scoreKey = KeysetCursor.scoreKey(after);
+        long idKey = KeysetCursor.idKey(after);
+        long nowHour = epochHour(LocalDateTime.now());
+
+        List<TransactionSummary> candidates = new ArrayList<>();
+        for (long hour = nowHour; hour > nowHour - windowHours; hour--) {
+            HourBucket bucket = hours.get(index(hour));
+            if (bucket != null && bucket.hour == hour) {
+                bucket.collectBelow(scoreKey, idKey, candidates);
+            }
+        }
+        candidates.sort(BY_SCORE.reversed());
+
+        List<TransactionSummary> items = candidates.size() > size
+                ? new ArrayList<>(candidates.subList(0, size))
+                : candidates;
+
+        String nextCursor = null;
+        if (candidates.size() > items.size()) {
+            TransactionSummary last = items.get(items.size() - 1);
+            nextCursor = KeysetCursor.ofScore(last.getFraudProbability(), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private void addRecent(TransactionSummary summary) {
+        long sequence = recentSequence.getAndIncrement();
+        recent.set((int) (sequence & recentMask), new RecentSlot(sequence, summary));
+    }
+
+    private void addHighRisk(TransactionSummary summary) {
+        if (summary.getFraudProbability() == null || summary.getCreatedAt() == null) {
+            return;
+        }
+        bucket(epochHour(summary.getCreatedAt())).offer(summary);
+    }
+
+    /**
+     * 해당 시간의 버킷 조회, 슬롯이 이전 시간의 버킷이면 새 버킷으로 교체 (CAS)
+     */
+    private HourBucket bucket(long hour) {
+        int index = index(hour);
+        while (true) {
+            HourBucket current = hours.get(index);
+            if (current != null && current.hour >= hour) {
+                // 조회 기간보다 오래된 시간은 더 최신 버킷이 슬롯을 차지하므로 보관하지 않음
+                return current.hour == hour ? current : new HourBucket(hour, topK);
+            }
+            HourBucket created = new HourBucket(hour, topK);
+            if (hours.compareAndSet(index, current, created)) {
+                return created;
+            }
+        }
+    }
+
+    private int index(long hour) {
+        return (int) Math.floorMod(hour, (long) windowHours);
+    }
+
+    private static long epochHour(LocalDateTime dateTime) {
+        long epochMillis = dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return TimeUnit.MILLISECONDS.toHours(epochMillis);
+    }
+
+    private static final class RecentSlot {
+
+        private final long sequence;
+        private final TransactionSummary summary;
+
+        private RecentSlot(long sequence, TransactionSummary summary) {
+            this.sequence = sequence;
+            this.summary = summary;
+        }
+    }
+
+    /**
+     * 한 시간 동안의 확률 상위 capacity건 (최소 힙)
+     */
+    private static final class HourBucket {
+
+        private final long hour;
+        private final int capacity;
+        private final PriorityQueue<TransactionSummary> heap;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** 힙이 가득 찼을 때의 최소 확률, 이보다 낮은 거래는 잠금 없이 건너뜀 */
+        private volatile double floor = -1;
+
+        private HourBucket(long hour, int capacity) {
+            this.hour = hour;
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(Math.min(capacity, 64) + 1, BY_SCORE);
+        }
+
+        private void offer(TransactionSummary summary) {
+            if (summary.getFraudProbability() < floor) {
+                return;
+            }
+            lock.lock();
+            try {
+                heap.offer(summary);
+                if (heap.size() > capacity) {
+                    heap.poll();
+                }
+                if (heap.size() == capacity) {
+                    floor = heap.peek().getFraudProbability();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void collectBelow(double scoreKey, long idKey, List<TransactionSummary> out) {
+            lock.lock();
+            try {
+                for (TransactionSummary summary : heap) {
+                    if (isBelow(summary, scoreKey, idKey)) {
+                        out.add(summary);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static boolean isBelow(TransactionSummary summary, double scoreKey, long idKey) {
+            double score = summary.getFraudProbability();
+            return score < scoreKey || (score == scoreKey && summary.getId() < idKey);
+        }
+    }
+}
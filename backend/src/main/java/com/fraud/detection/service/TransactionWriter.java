@@ -0,0 +1,408 @@
+package com.fraud.detection.service;
+
+import com.fraud.detection.entity.Transaction;
+import com.fraud.detection.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 거래 저장기 (Write-Behind)
+ * 분석 결과를 제한된 대기열에 넣고 별도 스레드가 JDBC 배치 INSERT로 일괄 저장
+ *
+ * - 대기열이 가득 차면 offer-timeout-ms 동안 대기하고, 그래도 공간이 없으면 호출 스레드에서 직접 저장 (역압)
+ * - 저장에 실패한 거래는 버리지 않고 재시도 버퍼에 보관하여 DB가 복구될 때까지 백오프 간격으로 다시 저장
+ *   (데이터 자체가 잘못된 무결성 위반만 실패로 기록하고 제외)
+ * - 재시도 버퍼가 retry-capacity에 도달하면 새 저장 요청을 AnalysisOverloadedException으로 거절 (응답한 거래는 유실하지 않음)
+ * - 종료 시 대기열에 남은 거래를 모두 저장한 뒤 정지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionWriter implements SmartLifecycle {
+
+    private final TransactionRepository transactionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.write-behind.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${app.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${app.write-behind.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    @Value("${app.write-behind.retry-capacity:100000}")
+    private int retryCapacity;
+
+    @Value("${app.write-behind.retry-initial-backoff-ms:100}")
+    private long retryInitialBackoffMs;
+
+    @Value("${app.write-behind.retry-max-backoff-ms:10000}")
+    private long retryMaxBackoffMs;
+
+    @Value("${app.write-behind.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private BlockingQueue<PendingWrite> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * 저장 실패 후 재시도 대기 중인 거래 (앞쪽이 먼저 실패한 거래)
+     * 비어 있지 않으면 DB 장애로 보고, 새 거래도 이 뒤에 붙여 저장 순서를 유지
+     * 크기는 write 시점에 retry-capacity로 제한하며, 이미 받은 거래는 대기열 크기만큼 초과해 보관할 수 있음
+     */
+    private final BlockingDeque<PendingWrite> retry = new LinkedBlockingDeque<>();
+
+    /**
+     * running 확인과 대기열 투입을 stop()의 상태 전환과 원자적으로 수행
+     * (확인 직후 플러셔가 종료되어 투입한 거래가 저장되지 않는 경쟁 방지)
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+    private volatile long retryBackoffNanos;
+    private volatile long nextRetryAt;
+
+    private Timer lag;
+    private DistributionSummary flushSize;
+    private Counter overflow;
+    private Counter failed;
+    private Counter retried;
+    private Counter rejected;
+
+    /**
+     * 거래 저장 요청
+     * write-behind가 비활성화된 경우 즉시 저장
+     *
+     * @throws AnalysisOverloadedException DB 장애로 재시도 버퍼가 가득 찬 경우
+     */
+    public void write(Transaction transaction) {
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                transactionRepository.save(transaction);
+                return;
+            }
+            ensureRetryCapacity(1);
+            enqueue(new PendingWrite(transaction));
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 거래 일괄 저장 요청 (배치 분석용)
+     * write-behind가 비활성화된 경우 한 트랜잭션에서 배치 INSERT로 즉시 저장
+     *
+     * @throws AnalysisOverloadedException DB 장애로 재시도 버퍼에 배치 전체를 보관할 수 없는 경우 (일부만 받지 않음)
+     */
+    public void writeAll(List<Transaction> transactions) {
+        stateLock.readLock().lock();
+        try {
+            if (!running) {
+                transactionRepository.saveAll(transactions);
+                return;
+            }
+            ensureRetryCapacity(transactions.size());
+            for (Transaction transaction : transactions) {
+                enqueue(new PendingWrite(transaction));
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 거래 수
+     */
+    public int getPendingCount() {
+        return (queue == null ? 0 : queue.size()) + retry.size();
+    }
+
+    @Override
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        queue = new ArrayBlockingQueue<>(capacity);
+
+        lag = Timer.builder("fraud.persist.lag")
+                .description("분석 완료부터 DB 커밋까지의 지연")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        flushSize = DistributionSummary.builder("fraud.persist.batch.size")
+                .description("배치 INSERT당 거래 건수")
+                .register(meterRegistry);
+        overflow = Counter.builder("fraud.persist.overflow")
+                .description("대기열 포화로 호출 스레드에서 직접 저장한 건수")
+                .register(meterRegistry);
+        failed = Counter.builder("fraud.persist.failed")
+                .description("저장하지 못하고 제외한 거래 건수 (무결성 위반, 종료 시 미저장)")
+                .register(meterRegistry);
+        retried = Counter.builder("fraud.persist.retried")
+                .description("저장 실패로 재시도 버퍼에 보관한 건수")
+                .register(meterRegistry);
+        rejected = Counter.builder("fraud.persist.rejected")
+                .description("재시도 버퍼 포화로 거절한 저장 요청 건수")
+                .register(meterRegistry);
+        meterRegistry.gauge("fraud.persist.queue.size", queue, BlockingQueue::size);
+        meterRegistry.gauge("fraud.persist.retry.size", retry, BlockingDeque::size);
+        retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(retryInitialBackoffMs);
+
+        if (!enabled) {
+            log.info("Write-behind 저장 비활성화 - 동기 저장 사용");
+            return;
+        }
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "transaction-writer");
+        flusher.start();
+        log.info("Write-behind 저장 시작 - 대기열: {}건, 배치: {}건", capacity, batchSize);
+    }
+
+    @Override
+    public void stop() {
+        // 진행 중인 write가 대기열 투입을 마칠 때까지 기다린 뒤 전환 (이후 write는 동기 저장)
+        stateLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int unsaved = queue.size() + retry.size();
+        if (unsaved > 0) {
+            log.error("Write-behind 저장 종료 - 미저장 거래: {}건", unsaved);
+        } else {
+            log.info("Write-behind 저장 종료 - 미저장 거래: 0건");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 정지하여 종료 중 들어온 요청까지 저장
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 재시도 버퍼가 수용할 수 있는지 확인 (DB 장애 중 유입 제한)
+     */
+    private void ensureRetryCapacity(int count) {
+        int pending = retry.size();
+        if (pending > 0 && pending + count > retryCapacity) {
+            rejected.increment(count);
+            throw new AnalysisOverloadedException(String.format(
+                    "거래 저장이 지연되어 재시도 대기 거래가 한도(%d건)에 도달했습니다, 잠시 후 다시 시도하세요",
+                    retryCapacity), retryAfterSeconds);
+        }
+    }
+
+    private void enqueue(PendingWrite pending) {
+        try {
+            if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        overflow.increment();
+        if (!retry.isEmpty()) {
+            // DB 장애 중에는 호출 스레드에서 저장해도 실패하므로 재시도 버퍼 뒤에 보관
+            retry.addLast(pending);
+            return;
+        }
+        // 대기열 포화: 호출 스레드에서 직접 저장하여 유입 속도를 늦춤
+        flush(List.of(pending));
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                if (!retry.isEmpty()) {
+                    retryPending(batch);
+                    continue;
+                }
+                PendingWrite first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                // 인터럽트되어도 대기열에 남은 거래는 모두 저장한 뒤 종료
+                running = false;
+            } catch (RuntimeException e) {
+                log.error("Write-behind 저장 루프 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 종료 전 재시도 대기 거래를 한 번 더 저장 시도하고, 남은 거래는 실패로 기록
+        while (!retry.isEmpty()) {
+            drainRetry(batch);
+            List<PendingWrite> rest = save(batch);
+            batch.clear();
+            if (!rest.isEmpty()) {
+                retry.drainTo(rest);
+                failed.increment(rest.size());
+                for (PendingWrite pending : rest) {
+                    log.error("거래 저장 실패 (종료) - ID: {}", pending.transaction.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * DB 장애 중 처리: 새 거래를 재시도 버퍼 뒤로 옮기고, 백오프가 지나면 앞에서부터 한 배치를 저장 시도
+     * 성공하면 백오프를 초기화하고, 실패하면 두 배로 늘림 (retry-max-backoff-ms까지)
+     */
+    private void retryPending(List<PendingWrite> batch) throws InterruptedException {
+        queue.drainTo(retry);
+        long wait = nextRetryAt - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(wait, TimeUnit.MILLISECONDS.toNanos(flushIntervalMs)));
+            return;
+        }
+
+        drainRetry(batch);
+        List<PendingWrite> rest = save(batch);
+        if (rest.isEmpty()) {
+            retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(retryInitialBackoffMs);
+            if (retry.isEmpty()) {
+                log.info("거래 저장 재개 - 재시도 대기 거래를 모두 저장");
+            }
+            return;
+        }
+
+        // 실패한 거래를 원래 순서대로 버퍼 앞에 되돌림
+        for (int i = rest.size() - 1; i >= 0; i--) {
+            retry.addFirst(rest.get(i));
+        }
+        retryBackoffNanos = Math.min(retryBackoffNanos * 2, TimeUnit.MILLISECONDS.toNanos(retryMaxBackoffMs));
+        nextRetryAt = System.nanoTime() + retryBackoffNanos;
+    }
+
+    private void drainRetry(List<PendingWrite> batch) {
+        PendingWrite pending;
+        while (batch.size() < batchSize && (pending = retry.pollFirst()) != null) {
+            batch.add(pending);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<PendingWrite> rest = save(batch);
+        if (rest.isEmpty()) {
+            return;
+        }
+        if (retry.isEmpty()) {
+            nextRetryAt = System.nanoTime() + retryBackoffNanos;
+        }
+        retry.addAll(rest);
+        retried.increment(rest.size());
+        log.warn("거래 저장 실패, 재시도 대기 - {}건 (대기 중: {}건)", rest.size(), retry.size());
+    }
+
+    /**
+     * 배치 INSERT로 저장하고, 다시 시도해야 하는 거래를 반환
+     * 무결성 위반이면 원인 거래를 가려내기 위해 건별로 저장
+     */
+    private List<PendingWrite> save(List<PendingWrite> batch) {
+        List<Transaction> transactions = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            transactions.add(pending.transaction);
+        }
+
+        List<PendingWrite> rest;
+        try {
+            transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(transactions));
+            rest = List.of();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("배치 저장 실패, 건별 저장으로 재시도 - {}건: {}", batch.size(), e.getMessage());
+            rest = saveIndividually(batch);
+        } catch (RuntimeException e) {
+            log.warn("배치 저장 실패 - {}건: {}", batch.size(), e.getMessage());
+            return new ArrayList<>(batch);
+        }
+
+        long now = System.nanoTime();
+        for (PendingWrite pending : batch) {
+            if (!rest.contains(pending)) {
+                lag.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+        flushSize.record(batch.size() - rest.size());
+        return rest;
+    }
+
+    private List<PendingWrite> saveIndividually(List<PendingWrite> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Transaction transaction = batch.get(i).transaction;
+            try {
+                transactionTemplate.executeWithoutResult(status -> transactionRepository.save(transaction));
+            } catch (DataIntegrityViolationException e) {
+                // 다시 시도해도 저장되지 않는 데이터
+                failed.increment();
+                log.error("거래 저장 실패 - ID: {}", transaction.getId(), e);
+            } catch (RuntimeException e) {
+                // DB 장애: 이 거래부터 나머지는 재시도
+                return new ArrayList<>(batch.subList(i, batch.size()));
+            }
+        }
+        return List.of();
+    }
+
+    private static final class PendingWrite {
+
+        private final Transaction transaction;
+        private final long enqueuedAt = System.nanoTime();
+
+        private PendingWrite(Transaction transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
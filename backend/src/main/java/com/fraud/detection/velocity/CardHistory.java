@@ -0,0 +1,181 @@
+package com.fraud.detection.velocity;
+
+/**
+ * 카드별 최근 24시간 거래 이력 (링 버퍼)
+ * 시각(기준 시점 이후 초), 금액, 가맹점 해시를 원시 타입 배열에 저장하여 카드당 메모리를 최소화
+ *
+ * 동기화는 CardVelocityStore가 ConcurrentHashMap.compute 안에서만 접근하는 것으로 보장
+ */
+final class CardHistory {
+
+    static final int WINDOW_1H = 3600;
+    static final int WINDOW_24H = 24 * 3600;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] times = new int[INITIAL_CAPACITY];
+    private float[] amounts = new float[INITIAL_CAPACITY];
+    private int[] merchants = new int[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * 현재 거래를 기록하고, 기록 전 이력과 현재 거래로 속도 특성 계산
+     * 시각이 마지막 거래보다 이르면 마지막 거래 시각으로 간주 (순서 역전 방지)
+     */
+    VelocityFeatures record(int now, double amount, int merchant, int maxEvents) {
+        if (size > 0) {
+            now = Math.max(now, times[index(size - 1)]);
+        }
+        expire(now - WINDOW_24H);
+
+        int count1h = 1;
+        double sum24h = amount;
+        double sum1h = amount;
+        for (int i = 0; i < size; i++) {
+            int slot = index(i);
+            sum24h += amounts[slot];
+            if (times[slot] > now - WINDOW_1H) {
+                count1h++;
+                sum1h += amounts[slot];
+            }
+        }
+
+        int count24h = size + 1;
+        double avg24h = sum24h / count24h;
+        double previousAvg = size > 0 ? (sum24h - amount) / size : amount;
+        double sinceLast = size > 0 ? now - times[index(size - 1)] : WINDOW_24H;
+        int distinctMerchants = distinctMerchants(merchant);
+
+        append(now, (float) amount, merchant, maxEvents);
+
+        return new VelocityFeatures(
+                count1h,
+                count24h,
+                distinctMerchants,
+                avg24h,
+                sinceLast,
+                sum1h / avg24h,
+                amount / previousAvg
+        );
+    }
+
+    /**
+     * record로 기록한 거래 취소 (분석이 실패하거나 거절된 경우)
+     * 기록 시각은 마지막 거래 시각으로 당겨졌을 수 있으므로 now 이후의 같은 금액 / 가맹점 거래 중 가장 최근 것을 제거
+     * (기록하면서 만료되거나 덮어쓴 이전 거래는 복원하지 않음)
+     *
+     * @return 제거 여부
+     */
+    boolean forget(int now, double amount, int merchant) {
+        float value = (float) amount;
+        for (int i = size - 1; i >= 0 && times[index(i)] >= now; i--) {
+            int slot = index(i);
+            if (amounts[slot] == value && merchants[slot] == merchant) {
+                for (int j = i; j < size - 1; j++) {
+                    int to = index(j);
+                    int from = index(j + 1);
+                    times[to] = times[from];
+                    amounts[to] = amounts[from];
+                    merchants[to] = merchants[from];
+                }
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 마지막 거래 시각 (이력이 없으면 Integer.MIN_VALUE)
+     */
+    int lastTime() {
+        return size > 0 ? times[index(size - 1)] : Integer.MIN_VALUE;
+    }
+
+    /**
+     * 추정 힙 사용량 (바이트, 압축 OOP 기준 객체 헤더 + 필드 + 배열)
+     */
+    long estimatedBytes() {
+        return 32 + 3L * 16 + (long) times.length * (Integer.BYTES + Float.BYTES + Integer.BYTES);
+    }
+
+    private void expire(int cutoff) {
+        while (size > 0 && times[head] <= cutoff) {
+            head = (head + 1) % times.length;
+            size--;
+        }
+    }
+
+    private void append(int time, float amount, int merchant, int maxEvents) {
+        if (size == times.length) {
+            if (times.length < maxEvents) {
+                grow(Math.min(times.length * 2, maxEvents));
+            } else {
+                // 최대 보관 건수 초과: 가장 오래된 거래를 덮어씀
+                head = (head + 1) % times.length;
+                size--;
+            }
+        }
+
+        int slot = index(size);
+        times[slot] = time;
+        amounts[slot] = amount;
+        merchants[slot] = merchant;
+        size++;
+    }
+
+    private void grow(int capacity) {
+        int[] newTimes = new int[capacity];
+        float[] newAmounts = new float[capacity];
+        int[] newMerchants = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = index(i);
+            newTimes[i] = times[slot];
+            newAmounts[i] = amounts[slot];
+            newMerchants[i] = merchants[slot];
+        }
+        times = newTimes;
+        amounts = newAmounts;
+        merchants = newMerchants;
+        head = 0;
+    }
+
+    /**
+     * 현재 가맹점을 포함한 서로 다른 가맹점 수 (개방 주소법 정수 집합)
+     */
+    private int distinctMerchants(int current) {
+        int capacity = Integer.highestOneBit(Math.max(2, (size + 1) * 2 - 1)) << 1;
+        int[] table = new int[capacity];
+        boolean[] used = new boolean[capacity];
+        int mask = capacity - 1;
+
+        int distinct = 0;
+        for (int i = -1; i < size; i++) {
+            int value = i < 0 ? current : merchants[index(i)];
+            int slot = mix(value) & mask;
+            while (used[slot] && table[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                table[slot] = value;
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    private int index(int offset) {
+        return (head + offset) % times.length;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
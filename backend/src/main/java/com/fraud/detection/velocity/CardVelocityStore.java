@@ -0,0 +1,115 @@
+package com.fraud.detection.velocity;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카드별 거래 속도 저장소
+ * 카드 ID별 최근 24시간 이력을 메모리에 보관하고 원시 이벤트로부터 속도 특성을 계산
+ *
+ * - 카드 이력 접근은 ConcurrentHashMap.compute로 직렬화 (같은 카드의 동시 거래도 순서대로 반영)
+ * - 마지막 거래 후 ttl이 지난 카드는 evictExpired 호출 시 제거
+ * - 카드당 최대 maxEventsPerCard건까지 보관하며 초과분은 오래된 거래부터 덮어씀
+ * - 가맹점은 ID 해시로 구분하므로 해시 충돌 시 서로 다른 가맹점 수가 과소 집계될 수 있음
+ */
+@Slf4j
+public class CardVelocityStore {
+
+    /** 시각을 int 초로 저장하기 위한 기준 시점 (2020-01-01T00:00:00Z) */
+    private static final long BASE_EPOCH_SECOND = 1_577_836_800L;
+
+    /** ConcurrentHashMap 노드와 키 문자열의 추정 크기 (바이트) */
+    private static final long ENTRY_OVERHEAD_BYTES = 32 + 40;
+
+    private final Map<String, CardHistory> cards = new ConcurrentHashMap<>();
+    private final int maxEventsPerCard;
+    private final int ttlSeconds;
+
+    private volatile long estimatedHeapBytes;
+
+    public CardVelocityStore(int maxEventsPerCard, int ttlSeconds) {
+        if (maxEventsPerCard < 1) {
+            throw new IllegalArgumentException("maxEventsPerCard는 1 이상이어야 합니다: " + maxEventsPerCard);
+        }
+        this.maxEventsPerCard = maxEventsPerCard;
+        this.ttlSeconds = Math.max(ttlSeconds, CardHistory.WINDOW_24H);
+    }
+
+    /**
+     * 거래 이벤트 기록 및 속도 특성 계산
+     */
+    public VelocityFeatures record(String cardId, String merchantId, double amount, Instant timestamp) {
+        int now = toSeconds(timestamp);
+        int merchant = merchantId.hashCode();
+        VelocityFeatures[] result = new VelocityFeatures[1];
+
+        cards.compute(cardId, (key, history) -> {
+            CardHistory target = history != null ? history : new CardHistory();
+            result[0] = target.record(now, amount, merchant, maxEventsPerCard);
+            return target;
+        });
+        return result[0];
+    }
+
+    /**
+     * record로 기록한 거래 이벤트 취소 (분석 실패 / 거절 시 재시도가 이중으로 집계되지 않도록)
+     * 같은 인자로 호출해야 하며, 이력이 비면 카드를 제거
+     */
+    public void forget(String cardId, String merchantId, double amount, Instant timestamp) {
+        int now = toSeconds(timestamp);
+        int merchant = merchantId.hashCode();
+        cards.computeIfPresent(cardId, (key, history) -> {
+            history.forget(now, amount, merchant);
+            return history.isEmpty() ? null : history;
+        });
+    }
+
+    /**
+     * 마지막 거래 후 ttl이 지난 카드 제거 및 힙 사용량 추정치 갱신
+     *
+     * @return 제거한 카드 수
+     */
+    public int evictExpired(Instant now) {
+        int cutoff = toSeconds(now) - ttlSeconds;
+        int[] evicted = new int[1];
+        long[] bytes = new long[1];
+
+        for (String cardId : cards.keySet()) {
+            cards.computeIfPresent(cardId, (key, history) -> {
+                if (history.lastTime() <= cutoff) {
+                    evicted[0]++;
+                    return null;
+                }
+                bytes[0] += ENTRY_OVERHEAD_BYTES + 2L * key.length() + history.estimatedBytes();
+                return history;
+            });
+        }
+
+        estimatedHeapBytes = bytes[0];
+        if (evicted[0] > 0) {
+            log.debug("만료 카드 이력 제거 - {}건, 남은 카드: {}", evicted[0], cards.size());
+        }
+        return evicted[0];
+    }
+
+    /**
+     * 이력을 보관 중인 카드 수
+     */
+    public int getCardCount() {
+        return cards.size();
+    }
+
+    /**
+     * 마지막 evictExpired 시점의 추정 힙 사용량 (바이트)
+     */
+    public long getEstimatedHeapBytes() {
+        return estimatedHeapBytes;
+    }
+
+    private static int toSeconds(Instant timestamp) {
+        return (int) (timestamp.getEpochSecond() - BASE_EPOCH_SECOND);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fraud.detection.velocity;
+
+import lombok.Value;
+
+/**
+ * 카드 이력에서 계산한 거래 속도 특성
+ * 건수와 금액 집계는 현재 거래를 포함하고, 직전 거래 경과 시간과 금액 편차는 이전 거래만 기준으로 계산
+ */
+@Value
+public class VelocityFeatures {
+
+    /** 최근 1시간 거래 수 */
+    int transactionCount1h;
+
+    /** 최근 24시간 거래 수 */
+    int transactionCount24h;
+
+    /** 최근 24시간 서로 다른 가맹점 수 */
+    int differentMerchants24h;
+
+    /** 최근 24시간 평균 거래 금액 */
+    double avgTransactionAmount;
+
+    /** 직전 거래 이후 경과 시간 (초), 이력이 없으면 24시간 */
+    double timeSinceLastTransaction;
+
+    /** 최근 1시간 거래 금액 합계 / 24시간 평균 거래 금액 */
+    double transactionVelocity;
+
+    /** 현재 금액 / 이전 24시간 평균 금액, 이력이 없으면 1 */
+    double amountDeviation;
+}
@@ -0,0 +1,28 @@
+-- 초기 스키마 (Flyway 도입 전 ddl-auto로 생성되던 테이블과 동일하게 유지)
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 이 버전을 기준선으로 표시하고 건너뜀
+-- 이후 변경은 반드시 새 버전으로 추가 (기준선 DB에는 이 파일이 적용되지 않음)
+
+CREATE TABLE IF NOT EXISTS transactions (
+    id                          BIGINT       NOT NULL AUTO_INCREMENT,
+    amount                      DOUBLE       NOT NULL,
+    transaction_count_1h        INT,
+    transaction_count_24h       INT,
+    different_merchants_24h     INT,
+    avg_transaction_amount      DOUBLE,
+    time_since_last_transaction DOUBLE,
+    is_weekend                  INT,
+    is_night_time               INT,
+    merchant_risk_score         DOUBLE,
+    card_age_days               DOUBLE,
+    transaction_velocity        DOUBLE,
+    amount_deviation            DOUBLE,
+    cross_border                INT,
+    device_change               INT,
+    ip_change                   INT,
+    is_fraud                    BIT,
+    fraud_probability           DOUBLE,
+    risk_level                  VARCHAR(255),
+    created_at                  DATETIME(6)  NOT NULL,
+    updated_at                  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,9 @@
+-- 판정 경로 (서킷 브레이커 / 대체 스코어링 도입, 기존 거래는 NULL)
+ALTER TABLE transactions ADD COLUMN scoring_path VARCHAR(20) NULL AFTER risk_level;
+
+-- 거래 ID 블록 예약 (TransactionIdGenerator, 비어 있으면 첫 예약 시 기존 최대 ID 다음부터 시작)
+CREATE TABLE IF NOT EXISTS id_blocks (
+    name       VARCHAR(50) NOT NULL,
+    next_value BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- 조회 경로별 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로 (created_at, id) / (fraud_probability, id) 키셋 정렬을 인덱스 순서로 처리
+
+-- 이상거래 목록 / 기간별 이상거래 (is_fraud = true, created_at 범위·정렬)
+CREATE INDEX idx_transactions_fraud_created ON transactions (is_fraud, created_at);
+
+-- 높은 위험도 거래 (risk_level = 'HIGH', fraud_probability 정렬)
+CREATE INDEX idx_transactions_risk_probability ON transactions (risk_level, fraud_probability);
+
+-- 최근 거래 / 분 단위 통계 초기화 (created_at 정렬·범위)
+CREATE INDEX idx_transactions_created_at ON transactions (created_at);
@@ -0,0 +1,2 @@
+-- 거래를 판정한 모델 버전 (모델 교체 전후 판정 비교용, 기존 거래는 NULL)
+ALTER TABLE transactions ADD COLUMN model_version VARCHAR(40) NULL AFTER scoring_path;
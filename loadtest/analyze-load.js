@@ -0,0 +1,104 @@
+// /api/fraud-detection/analyze 부하 테스트 (k6)
+//
+// 요청률을 STEP_RPS 단위로 MAX_RPS까지 계단식으로 올리며 단계별 p99 지연과 오류율을 측정
+// 최대 지속 가능 RPS = p99가 SLO_P99_MS 이하이고 오류율이 1% 미만인 마지막 단계
+//
+// k6 run -e BASE_URL=http://localhost:8080 -e MAX_RPS=3000 loadtest/analyze-load.js
+
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'default';
+const STEP_RPS = Number(__ENV.STEP_RPS || 250);
+const MAX_RPS = Number(__ENV.MAX_RPS || 3000);
+const STEP_SECONDS = Number(__ENV.STEP_SECONDS || 30);
+const SLO_P99_MS = Number(__ENV.SLO_P99_MS || 500);
+
+const steps = [];
+for (let rps = STEP_RPS; rps <= MAX_RPS; rps += STEP_RPS) {
+    steps.push(rps);
+}
+
+// 단계별 태그 메트릭이 요약에 포함되도록 태그별 임계값 등록
+const thresholds = {};
+for (const rps of steps) {
+    thresholds[`http_req_duration{step:${rps}}`] = [`p(99)<${SLO_P99_MS}`];
+    thresholds[`http_req_failed{step:${rps}}`] = ['rate<0.01'];
+}
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        analyze: {
+            executor: 'ramping-arrival-rate',
+            startRate: STEP_RPS,
+            timeUnit: '1s',
+            preAllocatedVUs: 500,
+            maxVUs: Number(__ENV.MAX_VUS || 10000),
+            stages: steps.flatMap((rps) => [
+                { target: rps, duration: '5s' },
+                { target: rps, duration: `${STEP_SECONDS}s` },
+            ]),
+        },
+    },
+    thresholds,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const stepSeconds = STEP_SECONDS + 5;
+
+const normal = {
+    amount: 50000, transactionCount1h: 1, transactionCount24h: 3, differentMerchants24h: 2,
+    avgTransactionAmount: 45000, timeSinceLastTransaction: 7200, isWeekend: 0, isNightTime: 0,
+    merchantRiskScore: 0.15, cardAgeDays: 500, transactionVelocity: 1.2, amountDeviation: 0.5,
+    crossBorder: 0, deviceChange: 0, ipChange: 0,
+};
+
+const fraud = {
+    amount: 750000, transactionCount1h: 10, transactionCount24h: 25, differentMerchants24h: 15,
+    avgTransactionAmount: 50000, timeSinceLastTransaction: 60, isWeekend: 0, isNightTime: 1,
+    merchantRiskScore: 0.8, cardAgeDays: 30, transactionVelocity: 5.5, amountDeviation: 8.0,
+    crossBorder: 1, deviceChange: 1, ipChange: 1,
+};
+
+export default function () {
+    const elapsed = exec.instance.currentTestRunDuration / 1000;
+    const step = steps[Math.min(steps.length - 1, Math.floor(elapsed / stepSeconds))];
+
+    // 실제 트래픽과 비슷하게 약 5%를 이상거래 패턴으로 전송
+    const body = Math.random() < 0.05 ? fraud : { ...normal, amount: 10000 + Math.random() * 90000 };
+
+    const res = http.post(`${BASE_URL}/api/fraud-detection/analyze`, JSON.stringify(body), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { step: String(step) },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    let sustainable = 0;
+    const lines = [`mode=${MODE}`, 'target_rps  p99_ms     error_rate'];
+    for (const rps of steps) {
+        const duration = data.metrics[`http_req_duration{step:${rps}}`];
+        const failed = data.metrics[`http_req_failed{step:${rps}}`];
+        if (!duration) {
+            continue;
+        }
+        const p99 = duration.values['p(99)'];
+        const errorRate = failed ? failed.values.rate : 0;
+        if (p99 <= SLO_P99_MS && errorRate < 0.01 && sustainable === rps - STEP_RPS) {
+            sustainable = rps;
+        }
+        lines.push(`${String(rps).padEnd(11)} ${p99.toFixed(1).padEnd(10)} ${(errorRate * 100).toFixed(2)}%`);
+    }
+    lines.push(`max_sustainable_rps=${sustainable} (p99 <= ${SLO_P99_MS}ms, errors < 1%)`);
+
+    const report = lines.join('\n') + '\n';
+    return {
+        stdout: report,
+        [`loadtest/results/${MODE}.txt`]: report,
+        [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,28 @@
+#!/bin/sh
+# 블로킹 분석 경로(/analyze)와 리액티브 분석 경로(/reactive/analyze)의 동시 연결 수별 처리량 및 p99 비교
+# ML API는 고정 지연 스텁, 두 경로의 ML 커넥션 수는 ML_CONNECTIONS로 동일하게 맞춤
+#
+# 사용법: ./loadtest/compare-reactive.sh
+# 환경 변수: CONNECTIONS (기본 1000,2000,4000), STEP_SECONDS, STUB_LATENCY_MS, ML_CONNECTIONS
+set -e
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+COMPOSE="docker-compose -f docker-compose.yml -f loadtest/docker-compose.loadtest.yml"
+
+$COMPOSE up -d --build
+
+until curl -sf http://localhost:8080/api/fraud-detection/health > /dev/null; do
+    sleep 2
+done
+
+ulimit -n 65535 2>/dev/null || echo "경고: 파일 디스크립터 한도를 올리지 못했습니다 ($(ulimit -n))"
+
+k6 run -e MODE=blocking-concurrency -e ENDPOINT=/api/fraud-detection/analyze loadtest/concurrency-load.js
+k6 run -e MODE=reactive-concurrency -e ENDPOINT=/api/fraud-detection/reactive/analyze loadtest/concurrency-load.js
+
+$COMPOSE down
+
+echo
+cat loadtest/results/blocking-concurrency.txt loadtest/results/reactive-concurrency.txt
@@ -0,0 +1,89 @@
+#!/bin/sh
+# 백엔드 기동 시간과 기동 직후 1분 p99 비교
+#
+# - baseline: 변경 전 이미지 (AppCDS 도입 이전 커밋을 빌드, java -jar로 중첩 부트 JAR 실행, 예열 없음)
+# - cds-warmup: AppCDS 아카이브 + 예열
+# - aot-cds-warmup: Spring AOT + AppCDS 아카이브 + 예열
+#
+# 모드마다 이미지를 미리 빌드한 뒤 백엔드 컨테이너만 새로 시작하여,
+# 시작부터 준비 완료까지의 시간과 첫 /analyze 응답 시간을 기록하고 곧바로 1분 부하(first-minute-load.js)를 측정
+# (변경 전 이미지에는 readiness 그룹이 없으므로 baseline은 /actuator/health UP을 준비 완료로 봄)
+#
+# 사용법: ./loadtest/compare-startup.sh
+# 환경 변수: RATE (기본 500), STUB_LATENCY_MS,
+#   BASELINE_REF (baseline 이미지를 빌드할 커밋, 기본: Dockerfile.backend에 AppCDS를 도입한 커밋의 부모)
+set -e
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+COMPOSE="docker-compose -f docker-compose.yml -f loadtest/docker-compose.loadtest.yml"
+BASE_URL=http://localhost:8080
+SAMPLE='{"amount":50000,"transactionCount1h":1,"transactionCount24h":3,"differentMerchants24h":2,"avgTransactionAmount":45000,"timeSinceLastTransaction":7200,"isWeekend":0,"isNightTime":0,"merchantRiskScore":0.15,"cardAgeDays":500,"transactionVelocity":1.2,"amountDeviation":0.5,"crossBorder":0,"deviceChange":0,"ipChange":0}'
+
+now_ms() {
+    date +%s%3N
+}
+
+# 변경 전 커밋의 backend 디렉터리로 이미지 빌드 (당시 Dockerfile.backend 그대로 사용)
+build_baseline() {
+    ref=${BASELINE_REF:-$(git log --reverse --format=%H -S ArchiveClassesAtExit -- backend/Dockerfile.backend | head -1)^}
+    src=$(mktemp -d)
+    echo "=== baseline image: ${ref} ==="
+    git archive "$ref" backend | tar -x -C "$src"
+    docker build -t fraud-detection-backend:baseline \
+        --build-arg JAVA_VERSION="${JAVA_VERSION:-17}" \
+        -f "$src/backend/Dockerfile.backend" "$src/backend"
+    rm -rf "$src"
+}
+
+# run_mode <모드> <compose 명령> <준비 완료 확인 경로>
+run_mode() {
+    mode=$1
+    compose=$2
+    health=$3
+
+    echo "=== ${mode} ==="
+    $compose stop backend > /dev/null
+
+    start=$(now_ms)
+    $compose up -d --no-deps --no-build --force-recreate backend
+    until curl -sf ${BASE_URL}${health} > /dev/null; do
+        sleep 0.1
+    done
+    ready=$(now_ms)
+    first=$(curl -s -o /dev/null -w '%{time_total}' -H 'Content-Type: application/json' \
+        -d "$SAMPLE" ${BASE_URL}/api/fraud-detection/analyze)
+
+    k6 run -e MODE="${mode}" -e RATE="${RATE:-500}" loadtest/first-minute-load.js > /dev/null
+
+    {
+        echo "time_to_ready_ms=$((ready - start))"
+        echo "first_request_s=${first}"
+        echo "jvm_started: $($compose logs backend | grep -o 'Started FraudDetectionApplication in [0-9.]* seconds' | tail -1)"
+        cat loadtest/results/startup-${mode}.txt
+    } > loadtest/results/startup-${mode}.summary
+}
+
+$COMPOSE up -d mysql ml-api
+sleep 10
+
+build_baseline
+run_mode baseline "$COMPOSE -f loadtest/docker-compose.baseline.yml" /actuator/health
+
+export CDS_OPTS="-XX:SharedArchiveFile=app.jsa" WARMUP_ENABLED=true
+export AOT=false
+$COMPOSE build backend
+run_mode cds-warmup "$COMPOSE" /actuator/health/readiness
+
+export AOT=true
+$COMPOSE build backend
+run_mode aot-cds-warmup "$COMPOSE" /actuator/health/readiness
+
+$COMPOSE down
+
+echo
+for mode in baseline cds-warmup aot-cds-warmup; do
+    echo "--- ${mode}"
+    cat loadtest/results/startup-${mode}.summary
+done
@@ -0,0 +1,34 @@
+#!/bin/sh
+# 플랫폼 스레드(Java 17) 모드와 가상 스레드(Java 21) 모드의 최대 지속 가능 RPS 및 p99 비교
+#
+# 사용법: ./loadtest/compare-thread-modes.sh
+# 환경 변수: MAX_RPS, STEP_RPS, STEP_SECONDS, SLO_P99_MS, STUB_LATENCY_MS
+set -e
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+COMPOSE="docker-compose -f docker-compose.yml -f loadtest/docker-compose.loadtest.yml"
+
+run_mode() {
+    mode=$1
+    java_version=$2
+    profile=$3
+
+    echo "=== ${mode}: Java ${java_version}, profile '${profile}' ==="
+    JAVA_VERSION=${java_version} SPRING_PROFILES_ACTIVE=${profile} $COMPOSE up -d --build
+
+    until curl -sf http://localhost:8080/api/fraud-detection/health > /dev/null; do
+        sleep 2
+    done
+
+    k6 run -e MODE="${mode}" loadtest/analyze-load.js
+}
+
+run_mode platform-threads 17 ""
+run_mode virtual-threads 21 "virtual-threads"
+
+$COMPOSE down
+
+echo
+cat loadtest/results/platform-threads.txt loadtest/results/virtual-threads.txt
@@ -0,0 +1,89 @@
+// 동시 연결 수 기준 부하 테스트 (k6, closed model)
+//
+// CONNECTIONS의 각 단계마다 해당 수의 VU가 대기 시간 없이 요청을 반복하여 동시 연결 수를 고정하고,
+// 단계별 처리량(RPS), p99 지연, 오류율을 측정
+//
+// k6 run -e ENDPOINT=/api/fraud-detection/reactive/analyze -e CONNECTIONS=1000,2000,4000 loadtest/concurrency-load.js
+// (VU 수천 개는 파일 디스크립터가 필요하므로 ulimit -n 65535 이상에서 실행)
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ENDPOINT = __ENV.ENDPOINT || '/api/fraud-detection/analyze';
+const MODE = __ENV.MODE || 'default';
+const CONNECTIONS = (__ENV.CONNECTIONS || '1000,2000,4000').split(',').map(Number);
+const STEP_SECONDS = Number(__ENV.STEP_SECONDS || 60);
+const GAP_SECONDS = 10;
+
+// 단계를 순서대로 실행하고, 단계별 태그 메트릭이 요약에 포함되도록 태그별 임계값 등록 (항상 통과)
+const scenarios = {};
+const thresholds = {};
+CONNECTIONS.forEach((connections, i) => {
+    scenarios[`c${connections}`] = {
+        executor: 'constant-vus',
+        vus: connections,
+        duration: `${STEP_SECONDS}s`,
+        startTime: `${i * (STEP_SECONDS + GAP_SECONDS)}s`,
+        gracefulStop: '10s',
+        tags: { connections: String(connections) },
+    };
+    thresholds[`http_req_duration{connections:${connections}}`] = ['p(99)>=0'];
+    thresholds[`http_req_failed{connections:${connections}}`] = ['rate>=0'];
+    thresholds[`http_reqs{connections:${connections}}`] = ['count>=0'];
+});
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios,
+    thresholds,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const normal = {
+    amount: 50000, transactionCount1h: 1, transactionCount24h: 3, differentMerchants24h: 2,
+    avgTransactionAmount: 45000, timeSinceLastTransaction: 7200, isWeekend: 0, isNightTime: 0,
+    merchantRiskScore: 0.15, cardAgeDays: 500, transactionVelocity: 1.2, amountDeviation: 0.5,
+    crossBorder: 0, deviceChange: 0, ipChange: 0,
+};
+
+const fraud = {
+    amount: 750000, transactionCount1h: 10, transactionCount24h: 25, differentMerchants24h: 15,
+    avgTransactionAmount: 50000, timeSinceLastTransaction: 60, isWeekend: 0, isNightTime: 1,
+    merchantRiskScore: 0.8, cardAgeDays: 30, transactionVelocity: 5.5, amountDeviation: 8.0,
+    crossBorder: 1, deviceChange: 1, ipChange: 1,
+};
+
+export default function () {
+    // analyze-load.js와 같은 비율로 약 5%를 이상거래 패턴으로 전송
+    const body = Math.random() < 0.05 ? fraud : { ...normal, amount: 10000 + Math.random() * 90000 };
+
+    const res = http.post(`${BASE_URL}${ENDPOINT}`, JSON.stringify(body), {
+        headers: { 'Content-Type': 'application/json' },
+        timeout: '30s',
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const lines = [`mode=${MODE} endpoint=${ENDPOINT}`, 'connections  rps        p99_ms     error_rate'];
+    for (const connections of CONNECTIONS) {
+        const duration = data.metrics[`http_req_duration{connections:${connections}}`];
+        const failed = data.metrics[`http_req_failed{connections:${connections}}`];
+        const reqs = data.metrics[`http_reqs{connections:${connections}}`];
+        if (!duration || !reqs) {
+            continue;
+        }
+        const rps = reqs.values.count / STEP_SECONDS;
+        const errorRate = failed ? failed.values.rate : 0;
+        lines.push(`${String(connections).padEnd(12)} ${rps.toFixed(0).padEnd(10)} `
+            + `${duration.values['p(99)'].toFixed(1).padEnd(10)} ${(errorRate * 100).toFixed(2)}%`);
+    }
+
+    const report = lines.join('\n') + '\n';
+    return {
+        stdout: report,
+        [`loadtest/results/${MODE}.txt`]: report,
+        [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,85 @@
+// 기동 직후 1분 부하 테스트 (k6)
+//
+// readiness가 UP이 된 직후부터 RATE 요청/초로 60초 동안 /analyze를 호출하여
+// 전체 및 10초 구간별 p99와 규칙 기반 대체 점수(RULE_FALLBACK) 비율을 측정
+//
+// k6 run -e BASE_URL=http://localhost:8080 -e RATE=500 -e MODE=baseline loadtest/first-minute-load.js
+
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'default';
+const RATE = Number(__ENV.RATE || 500);
+const WINDOW_SECONDS = 10;
+const WINDOWS = 6;
+
+const fallback = new Rate('rule_fallback');
+
+// 구간별 태그 메트릭이 요약에 포함되도록 태그별 임계값 등록
+const thresholds = {};
+for (let w = 0; w < WINDOWS; w++) {
+    thresholds[`http_req_duration{window:${w}}`] = ['p(99)>=0'];
+}
+
+export const options = {
+    scenarios: {
+        first_minute: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: `${WINDOW_SECONDS * WINDOWS}s`,
+            preAllocatedVUs: 200,
+            maxVUs: Number(__ENV.MAX_VUS || 5000),
+        },
+    },
+    thresholds,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const normal = {
+    amount: 50000, transactionCount1h: 1, transactionCount24h: 3, differentMerchants24h: 2,
+    avgTransactionAmount: 45000, timeSinceLastTransaction: 7200, isWeekend: 0, isNightTime: 0,
+    merchantRiskScore: 0.15, cardAgeDays: 500, transactionVelocity: 1.2, amountDeviation: 0.5,
+    crossBorder: 0, deviceChange: 0, ipChange: 0,
+};
+
+export default function () {
+    const elapsed = exec.instance.currentTestRunDuration / 1000;
+    const window = Math.min(WINDOWS - 1, Math.floor(elapsed / WINDOW_SECONDS));
+    const body = { ...normal, amount: 10000 + Math.random() * 90000 };
+
+    const res = http.post(`${BASE_URL}/api/fraud-detection/analyze`, JSON.stringify(body), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { window: String(window) },
+    });
+    const ok = check(res, { 'status is 200': (r) => r.status === 200 });
+    if (ok) {
+        fallback.add(res.json('scoringPath') === 'RULE_FALLBACK');
+    }
+}
+
+export function handleSummary(data) {
+    const lines = [`mode=${MODE} rate=${RATE}/s`, 'window_s    p99_ms'];
+    for (let w = 0; w < WINDOWS; w++) {
+        const duration = data.metrics[`http_req_duration{window:${w}}`];
+        if (duration) {
+            const label = `${w * WINDOW_SECONDS}-${(w + 1) * WINDOW_SECONDS}`;
+            lines.push(`${label.padEnd(11)} ${duration.values['p(99)'].toFixed(1)}`);
+        }
+    }
+    const total = data.metrics.http_req_duration.values;
+    const failed = data.metrics.http_req_failed ? data.metrics.http_req_failed.values.rate : 0;
+    const ruleFallback = data.metrics.rule_fallback ? data.metrics.rule_fallback.values.rate : 0;
+    lines.push(`first_minute_p99_ms=${total['p(99)'].toFixed(1)}`);
+    lines.push(`error_rate=${(failed * 100).toFixed(2)}% rule_fallback_rate=${(ruleFallback * 100).toFixed(2)}%`);
+
+    const report = lines.join('\n') + '\n';
+    return {
+        stdout: report,
+        [`loadtest/results/startup-${MODE}.txt`]: report,
+        [`loadtest/results/startup-${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
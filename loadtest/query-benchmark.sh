@@ -0,0 +1,74 @@
+#!/bin/sh
+# 인덱스 적용 전후 대시보드 조회 시간 비교
+# 인덱스(V3__transaction_indexes.sql)를 제거한 상태와 다시 생성한 상태에서 같은 쿼리를 측정
+#
+# 사용법: ./loadtest/query-benchmark.sh [seed]
+#   seed 인자를 주면 먼저 ROWS 건의 거래 데이터를 생성
+# 환경 변수: ROWS (기본 5000000), REPEAT (쿼리당 반복 횟수, 기본 5)
+set -e
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+ROWS=${ROWS:-5000000}
+REPEAT=${REPEAT:-5}
+# 비밀번호는 MYSQL_PWD로 전달하여 명령줄 비밀번호 경고 없이 mysql 오류를 그대로 출력
+MYSQL="docker exec -i -e MYSQL_PWD=fraud_password fraud-detection-mysql mysql -uroot --batch --skip-column-names fraud_detection"
+QUERIES=loadtest/sql/dashboard_queries.sql
+INDEXES=backend/src/main/resources/db/migration/V3__transaction_indexes.sql
+
+if [ "$1" = "seed" ]; then
+    echo "=== ${ROWS}건 거래 데이터 생성 ==="
+    { echo "SET @rows = ${ROWS};"; cat loadtest/sql/seed_transactions.sql; } | $MYSQL
+fi
+
+echo "총 거래 수: $(echo 'SELECT COUNT(*) FROM transactions' | $MYSQL)"
+
+drop_indexes() {
+    for index in idx_transactions_fraud_created idx_transactions_risk_probability idx_transactions_created_at; do
+        echo "DROP INDEX ${index} ON transactions" | $MYSQL 2>/dev/null || true
+    done
+    echo "ANALYZE TABLE transactions" | $MYSQL > /dev/null 2>&1
+}
+
+create_indexes() {
+    grep -v '^--' "$INDEXES" | $MYSQL
+    echo "ANALYZE TABLE transactions" | $MYSQL > /dev/null 2>&1
+}
+
+# 쿼리별 실행 계획(EXPLAIN ANALYZE)과 평균 소요 시간(ms) 기록
+run_queries() {
+    label=$1
+    plans=loadtest/results/query-plans-${label}.txt
+    : > "$plans"
+
+    name=""
+    while IFS= read -r line; do
+        case "$line" in
+            "-- "*) name=${line#-- } ; continue ;;
+            "") continue ;;
+        esac
+        [ -z "$name" ] && continue
+
+        echo "## ${name}" >> "$plans"
+        echo "EXPLAIN ANALYZE ${line}" | $MYSQL 2>/dev/null | sed 's/\\n/\n/g' >> "$plans"
+
+        start=$(date +%s%N)
+        i=0
+        while [ $i -lt "$REPEAT" ]; do
+            echo "$line" | $MYSQL > /dev/null 2>&1
+            i=$((i + 1))
+        done
+        end=$(date +%s%N)
+        printf '%-36s %10.1f ms\n' "$name" "$(echo "($end - $start) / 1000000 / $REPEAT" | bc -l)"
+        name=""
+    done < "$QUERIES"
+}
+
+echo "=== 인덱스 없음 ==="
+drop_indexes
+run_queries before | tee loadtest/results/query-before.txt
+
+echo "=== 인덱스 적용 ==="
+create_indexes
+run_queries after | tee loadtest/results/query-after.txt
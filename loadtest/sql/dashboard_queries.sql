@@ -0,0 +1,14 @@
+-- 대시보드 조회 경로별 SQL (리포지토리 쿼리가 생성하는 형태, 첫 페이지 기준)
+-- 형식: "-- <이름>" 다음 줄에 한 줄짜리 쿼리
+-- fraud-transactions
+SELECT id, amount, is_fraud, fraud_probability, risk_level, scoring_path, created_at FROM transactions WHERE is_fraud = 1 AND (created_at < '9999-12-31 23:59:59' OR (created_at = '9999-12-31 23:59:59' AND id < 9223372036854775807)) ORDER BY created_at DESC, id DESC LIMIT 100
+-- fraud-transactions-period-7d
+SELECT id, amount, is_fraud, fraud_probability, risk_level, scoring_path, created_at FROM transactions WHERE is_fraud = 1 AND created_at BETWEEN NOW() - INTERVAL 7 DAY AND NOW() AND (created_at < '9999-12-31 23:59:59' OR (created_at = '9999-12-31 23:59:59' AND id < 9223372036854775807)) ORDER BY created_at DESC, id DESC LIMIT 100
+-- high-risk-transactions
+SELECT id, amount, is_fraud, fraud_probability, risk_level, scoring_path, created_at FROM transactions WHERE risk_level = 'HIGH' AND (fraud_probability < 1.7976931348623157E308 OR (fraud_probability = 1.7976931348623157E308 AND id < 9223372036854775807)) ORDER BY fraud_probability DESC, id DESC LIMIT 100
+-- recent-transactions
+SELECT id, amount, is_fraud, fraud_probability, risk_level, scoring_path, created_at FROM transactions ORDER BY created_at DESC, id DESC LIMIT 10
+-- fraud-count
+SELECT COUNT(*) FROM transactions WHERE is_fraud = 1
+-- per-minute-24h (통계 초기화)
+SELECT YEAR(created_at), MONTH(created_at), DAY(created_at), HOUR(created_at), MINUTE(created_at), COUNT(*), SUM(CASE WHEN is_fraud = 1 THEN 1 ELSE 0 END) FROM transactions WHERE created_at >= NOW() - INTERVAL 1 DAY GROUP BY 1, 2, 3, 4, 5
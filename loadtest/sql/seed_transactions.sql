@@ -0,0 +1,61 @@
+-- 조회 벤치마크용 거래 데이터 생성
+-- @rows 건을 최근 365일에 고르게 분포 (이상거래 확률은 낮은 쪽으로 치우친 분포)
+-- 사용법: ROWS=5000000 ./loadtest/query-benchmark.sh seed
+
+-- ID 블록 할당기와 충돌하지 않도록 기존 최대 ID와 다음 블록 시작값 이후부터 생성
+SET @base = GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM transactions),
+        (SELECT COALESCE(MAX(next_value), 0) FROM id_blocks WHERE name = 'transactions'));
+
+-- 0~9 숫자 표 (MySQL은 한 쿼리에서 TEMPORARY 테이블을 두 번 이상 참조할 수 없으므로 일반 테이블로 만들고 마지막에 삭제)
+DROP TABLE IF EXISTS seed_digits;
+CREATE TABLE seed_digits (d INT PRIMARY KEY);
+INSERT INTO seed_digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9);
+
+INSERT INTO transactions (
+    id, amount, transaction_count_1h, transaction_count_24h, different_merchants_24h,
+    avg_transaction_amount, time_since_last_transaction, is_weekend, is_night_time,
+    merchant_risk_score, card_age_days, transaction_velocity, amount_deviation,
+    cross_border, device_change, ip_change,
+    is_fraud, fraud_probability, risk_level, scoring_path, created_at, updated_at)
+SELECT
+    @base + n + 1,
+    ROUND(10 + RAND() * 2000, 2),
+    FLOOR(RAND() * 10),
+    FLOOR(RAND() * 50),
+    FLOOR(RAND() * 15),
+    ROUND(50 + RAND() * 500, 2),
+    ROUND(RAND() * 48, 2),
+    DAYOFWEEK(created_at) IN (1, 7),
+    HOUR(created_at) < 6,
+    ROUND(RAND(), 4),
+    ROUND(RAND() * 3650, 1),
+    ROUND(RAND() * 5, 2),
+    ROUND(RAND() * 4, 2),
+    RAND() < 0.1,
+    RAND() < 0.1,
+    RAND() < 0.1,
+    p > 0.5,
+    p,
+    CASE WHEN p >= 0.7 THEN 'HIGH' WHEN p >= 0.3 THEN 'MEDIUM' ELSE 'LOW' END,
+    'REMOTE_MODEL',
+    created_at,
+    created_at
+FROM (
+    SELECT n,
+           POW(RAND(), 4) AS p,
+           NOW(6) - INTERVAL FLOOR(RAND() * 365 * 86400) SECOND AS created_at
+    FROM (
+        SELECT d1.d + d2.d * 10 + d3.d * 100 + d4.d * 1000 + d5.d * 10000
+               + d6.d * 100000 + d7.d * 1000000 + d8.d * 10000000 AS n
+        FROM seed_digits d1, seed_digits d2, seed_digits d3, seed_digits d4,
+             seed_digits d5, seed_digits d6, seed_digits d7, seed_digits d8
+    ) seq
+    WHERE n < @rows
+) seed;
+
+INSERT INTO id_blocks (name, next_value) VALUES ('transactions', @base + @rows + 1)
+ON DUPLICATE KEY UPDATE next_value = GREATEST(next_value, @base + @rows + 1);
+
+DROP TABLE seed_digits;
+ANALYZE TABLE transactions;
@@ -0,0 +1,78 @@
+"""
+부하 테스트용 ML API 스텁
+모델 추론 대신 고정 지연 후 결정적인 결과를 반환하여 백엔드 동시성만 측정
+"""
+
+import asyncio
+import os
+from datetime import datetime
+
+import msgpack
+from fastapi import FastAPI, Request, Response
+
+app = FastAPI(title="ML API Stub")
+
+# 응답 지연 (ms), 실제 ML 서버의 네트워크 + 추론 시간을 흉내
+LATENCY_MS = float(os.getenv("STUB_LATENCY_MS", "50"))
+
+
+# FeatureVector 순서에서 merchant_risk_score의 위치
+MERCHANT_RISK_SCORE_INDEX = 8
+
+MODEL_VERSION = "stub"
+RISK_THRESHOLDS = {"medium": 0.3, "high": 0.7}
+
+
+def stub_probability(merchant_risk_score: float) -> float:
+    return min(0.99, float(merchant_risk_score))
+
+
+def stub_prediction(transaction: dict) -> dict:
+    probability = stub_probability(transaction.get("merchant_risk_score", 0.0))
+    return {
+        "is_fraud": probability > 0.5,
+        "fraud_probability": probability,
+        "risk_level": "LOW" if probability < 0.3 else "MEDIUM" if probability < 0.7 else "HIGH",
+        "model_version": MODEL_VERSION,
+    }
+
+
+@app.get("/health")
+async def health_check():
+    return {"status": "healthy", "model_loaded": True, "model_version": MODEL_VERSION,
+            "timestamp": datetime.now().isoformat()}
+
+
+@app.get("/api/model-info")
+async def model_info():
+    return {"model_type": "stub", "model_version": MODEL_VERSION, "risk_thresholds": RISK_THRESHOLDS}
+
+
+@app.post("/api/predict")
+async def predict(request: Request):
+    transaction = await request.json()
+    await asyncio.sleep(LATENCY_MS / 1000)
+    return {**stub_prediction(transaction), "timestamp": datetime.now().isoformat()}
+
+
+@app.post("/api/batch-predict")
+async def batch_predict(request: Request):
+    body = await request.json()
+    await asyncio.sleep(LATENCY_MS / 1000)
+    results = [stub_prediction(t) for t in body["transactions"]]
+    return {
+        "total_count": len(results),
+        "fraud_count": sum(1 for r in results if r["is_fraud"]),
+        "results": results,
+        "model_version": MODEL_VERSION,
+        "timestamp": datetime.now().isoformat(),
+    }
+
+
+@app.post("/api/vector-predict")
+async def vector_predict(request: Request):
+    rows = msgpack.unpackb(await request.body())
+    await asyncio.sleep(LATENCY_MS / 1000)
+    probabilities = [stub_probability(row[MERCHANT_RISK_SCORE_INDEX]) for row in rows]
+    return Response(content=msgpack.packb(probabilities), media_type="application/x-msgpack",
+                    headers={"X-Model-Version": MODEL_VERSION})
@@ -23,4 +23,5 @@ RUN python train_model.py
 EXPOSE 8000
 
 # FastAPI 서버 실행
-CMD ["uvicorn", "ml_api:app", "--host", "0.0.0.0", "--port", "8000"]
\ No newline at end of file
+# 백엔드 커넥션 풀의 keep-alive(60초)보다 길게 유지
+CMD ["uvicorn", "ml_api:app", "--host", "0.0.0.0", "--port", "8000", "--timeout-keep-alive", "75"]
\ No newline at end of file
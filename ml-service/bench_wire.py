@@ -0,0 +1,70 @@
+"""
+ML 서버 측 전송 형식 비교 (JSON /api/batch-predict vs MessagePack /api/vector-predict)
+모델 예측을 제외한 요청 파싱 → 특성 행렬 변환, 응답 직렬화 비용과 건당 바이트 수를 측정
+
+사용법: python bench_wire.py [배치 크기...]   (기본: 1 64 500)
+"""
+
+import json
+import sys
+import time
+
+import msgpack
+import numpy as np
+
+from ml_api import BatchTransactionRequest, N_FEATURES, TransactionRequest, get_risk_level
+
+SAMPLE = TransactionRequest.Config.schema_extra["example"]
+FEATURE_ORDER = list(SAMPLE.keys())
+ITERATIONS = 2000
+
+
+def json_decode(body: bytes) -> np.ndarray:
+    batch = BatchTransactionRequest(**json.loads(body))
+    return np.array([[getattr(t, name) for name in FEATURE_ORDER] for t in batch.transactions]).reshape(-1, N_FEATURES)
+
+
+def json_encode(probabilities: np.ndarray) -> bytes:
+    results = [{
+        "is_fraud": bool(p > 0.5),
+        "fraud_probability": float(p),
+        "risk_level": get_risk_level(p)
+    } for p in probabilities]
+    return json.dumps({"total_count": len(results), "results": results, "timestamp": "2024-12-15T14:30:00.123456"}).encode()
+
+
+def msgpack_decode(body: bytes) -> np.ndarray:
+    return np.asarray(msgpack.unpackb(body), dtype=np.float32)
+
+
+def msgpack_encode(probabilities: np.ndarray) -> bytes:
+    return msgpack.packb(probabilities.tolist())
+
+
+def per_transaction_us(fn, arg, batch_size: int) -> float:
+    start = time.perf_counter()
+    for _ in range(ITERATIONS):
+        fn(arg)
+    return (time.perf_counter() - start) / ITERATIONS / batch_size * 1e6
+
+
+def run(batch_size: int):
+    json_request = json.dumps({"transactions": [SAMPLE] * batch_size}).encode()
+    row = [float(SAMPLE[name]) for name in FEATURE_ORDER]
+    packer = msgpack.Packer(use_single_float=True)
+    msgpack_request = packer.pack([row] * batch_size)
+    probabilities = np.full(batch_size, 0.12)
+
+    print(f"[batch={batch_size}]")
+    print(f"  요청 바이트/건  JSON={len(json_request) // batch_size:5d}  MessagePack={len(msgpack_request) // batch_size:5d}")
+    print(f"  응답 바이트/건  JSON={len(json_encode(probabilities)) // batch_size:5d}  MessagePack={len(msgpack_encode(probabilities)) // batch_size:5d}")
+    print(f"  요청 파싱 us/건  JSON={per_transaction_us(json_decode, json_request, batch_size):8.2f}"
+          f"  MessagePack={per_transaction_us(msgpack_decode, msgpack_request, batch_size):8.2f}")
+    print(f"  응답 생성 us/건  JSON={per_transaction_us(json_encode, probabilities, batch_size):8.2f}"
+          f"  MessagePack={per_transaction_us(msgpack_encode, probabilities, batch_size):8.2f}")
+
+
+if __name__ == "__main__":
+    sizes = [int(arg) for arg in sys.argv[1:]] or [1, 64, 500]
+    for size in sizes:
+        run(size)
@@ -3,15 +3,18 @@ FastAPI 기반 ML 모델 서빙 서버
 실시간 이상거래 탐지 API
 """
 
-from fastapi import FastAPI, HTTPException
+from fastapi import FastAPI, HTTPException, Request
 from fastapi.middleware.cors import CORSMiddleware
+from fastapi.responses import FileResponse, Response
 from pydantic import BaseModel, Field
-from typing import List, Optional
+from typing import List, NamedTuple, Optional
 import joblib
 import numpy as np
 import json
 from datetime import datetime
 import logging
+import os
+import msgpack
 
 # 로깅 설정
 logging.basicConfig(level=logging.INFO)
@@ -33,9 +36,29 @@ app.add_middleware(
     allow_headers=["*"],
 )
 
-# 글로벌 변수
-model = None
-model_metadata = None
+# 현재 모델 (모델, 메타데이터, 버전, 위험도 임계값을 한 번에 교체)
+class LoadedModel(NamedTuple):
+    model: object
+    metadata: dict
+    version: str
+    risk_thresholds: dict
+
+DEFAULT_RISK_THRESHOLDS = {"medium": 0.3, "high": 0.7}
+WARMUP_ROWS = 256
+
+loaded: Optional[LoadedModel] = None
+
+# 압축 전송 형식 (/api/vector-predict)
+MSGPACK_MEDIA_TYPE = "application/x-msgpack"
+N_FEATURES = 15
+MAX_BATCH_SIZE = 1000
+MODEL_VERSION_HEADER = "X-Model-Version"
+
+# 모델 파일 디렉터리 (후보 모델을 별도 포트로 띄울 때 MODEL_DIR=candidate 처럼 지정)
+MODEL_DIR = os.environ.get("MODEL_DIR", ".")
+MODEL_FILE = os.path.join(MODEL_DIR, 'fraud_detection_model.pkl')
+METADATA_FILE = os.path.join(MODEL_DIR, 'model_metadata.json')
+TREES_FILE = os.path.join(MODEL_DIR, 'model_trees.json')
 
 class TransactionRequest(BaseModel):
     """거래 데이터 요청 모델"""
@@ -81,6 +104,7 @@ class PredictionResponse(BaseModel):
     is_fraud: bool = Field(..., description="이상거래 여부")
     fraud_probability: float = Field(..., description="이상거래 확률")
     risk_level: str = Field(..., description="위험도 레벨 (LOW/MEDIUM/HIGH)")
+    model_version: Optional[str] = Field(None, description="예측한 모델 버전")
     timestamp: str = Field(..., description="예측 시각")
     
 class BatchTransactionRequest(BaseModel):
@@ -94,22 +118,59 @@ class HealthResponse(BaseModel):
     model_version: Optional[str]
     timestamp: str
 
+def read_model() -> LoadedModel:
+    """
+    디스크의 모델과 메타데이터를 읽고 예열
+    첫 예측의 지연(메모리 할당, 트리 페이지 로드)을 교체 전에 치르도록 더미 배치로 한 번 예측
+    """
+    new_model = joblib.load(MODEL_FILE)
+    with open(METADATA_FILE, 'r', encoding='utf-8') as f:
+        metadata = json.load(f)
+    
+    new_model.predict_proba(np.zeros((WARMUP_ROWS, N_FEATURES), dtype=np.float32))
+    
+    # 버전 필드가 없는 이전 메타데이터는 학습 시각을 버전으로 사용
+    version = metadata.get('model_version') or metadata.get('training_date')
+    thresholds = metadata.get('risk_thresholds') or DEFAULT_RISK_THRESHOLDS
+    return LoadedModel(new_model, metadata, version, thresholds)
+
 @app.on_event("startup")
 async def load_model():
     """서버 시작 시 모델 로드"""
-    global model, model_metadata
+    global loaded
     try:
         logger.info("모델 로딩 시작...")
-        model = joblib.load('fraud_detection_model.pkl')
-        
-        with open('model_metadata.json', 'r', encoding='utf-8') as f:
-            model_metadata = json.load(f)
-        
-        logger.info(f"✓ 모델 로드 완료 (정확도: {model_metadata['accuracy']*100:.1f}%)")
+        loaded = read_model()
+        logger.info(f"✓ 모델 로드 완료 (버전: {loaded.version}, 정확도: {loaded.metadata['accuracy']*100:.1f}%)")
     except Exception as e:
         logger.error(f"모델 로드 실패: {str(e)}")
-        model = None
-        model_metadata = None
+        loaded = None
+
+@app.post("/api/model-reload")
+def reload_model():
+    """
+    모델 무중단 교체
+    
+    - 로드와 예열은 스레드 풀에서 실행하여 이벤트 루프(처리 중인 예측 요청)를 막지 않음
+    - 재학습으로 교체된 모델 파일을 읽고 예열한 뒤 참조 하나만 바꿔 교체
+    - 처리 중인 요청은 시작 시점의 모델로 끝까지 처리
+    - 로드에 실패하면 기존 모델을 그대로 유지
+    """
+    global loaded
+    previous = loaded.version if loaded else None
+    try:
+        candidate = read_model()
+    except Exception as e:
+        logger.error(f"모델 교체 실패 - 기존 모델 유지: {str(e)}")
+        raise HTTPException(status_code=500, detail=f"모델 로드 실패: {str(e)}")
+    
+    loaded = candidate
+    logger.info(f"모델 교체 완료 - {previous} → {candidate.version}")
+    return {
+        "previous_version": previous,
+        "model_version": candidate.version,
+        "risk_thresholds": candidate.risk_thresholds
+    }
 
 @app.get("/", response_model=dict)
 async def root():
@@ -121,28 +182,36 @@ async def root():
             "health": "/health",
             "predict": "/api/predict (POST)",
             "batch_predict": "/api/batch-predict (POST)",
-            "model_info": "/api/model-info"
+            "vector_predict": "/api/vector-predict (POST, MessagePack)",
+            "model_info": "/api/model-info",
+            "model_reload": "/api/model-reload (POST)",
+            "model_export": "/api/model-export"
         }
     }
 
 @app.get("/health", response_model=HealthResponse)
 async def health_check():
     """헬스체크 엔드포인트"""
+    current = loaded
     return {
-        "status": "healthy" if model is not None else "unhealthy",
-        "model_loaded": model is not None,
-        "model_version": model_metadata.get('training_date') if model_metadata else None,
+        "status": "healthy" if current is not None else "unhealthy",
+        "model_loaded": current is not None,
+        "model_version": current.version if current else None,
         "timestamp": datetime.now().isoformat()
     }
 
 @app.get("/api/model-info")
 async def get_model_info():
     """모델 정보 조회"""
-    if model is None or model_metadata is None:
+    current = loaded
+    if current is None:
         raise HTTPException(status_code=503, detail="모델이 로드되지 않았습니다")
     
+    model_metadata = current.metadata
     return {
         "model_type": model_metadata.get('model_type'),
+        "model_version": current.version,
+        "risk_thresholds": current.risk_thresholds,
         "training_date": model_metadata.get('training_date'),
         "performance": {
             "accuracy": model_metadata.get('accuracy'),
@@ -157,11 +226,22 @@ async def get_model_info():
         }
     }
 
-def get_risk_level(probability: float) -> str:
-    """확률 기반 위험도 레벨 결정"""
-    if probability < 0.3:
+@app.get("/api/model-export")
+async def export_model():
+    """
+    평탄화된 트리 배열 다운로드
+    백엔드 내장 스코어러(ml.engine=embedded)가 시작 시 로드
+    """
+    if not os.path.exists(TREES_FILE):
+        raise HTTPException(status_code=503, detail="내보낸 모델 파일이 없습니다")
+    
+    return FileResponse(TREES_FILE, media_type="application/json")
+
+def get_risk_level(probability: float, thresholds: dict = DEFAULT_RISK_THRESHOLDS) -> str:
+    """확률 기반 위험도 레벨 결정 (임계값은 모델 메타데이터의 risk_thresholds)"""
+    if probability < thresholds["medium"]:
         return "LOW"
-    elif probability < 0.7:
+    elif probability < thresholds["high"]:
         return "MEDIUM"
     else:
         return "HIGH"
@@ -174,7 +254,9 @@ async def predict_fraud(transaction: TransactionRequest):
     - **평균 응답 시간**: 0.3초
     - **모델 정확도**: 92.3%
     """
-    if model is None:
+    # 요청 처리 중 모델이 교체되어도 같은 모델로 끝까지 처리
+    current = loaded
+    if current is None:
         raise HTTPException(status_code=503, detail="모델이 로드되지 않았습니다")
     
     try:
@@ -198,15 +280,16 @@ async def predict_fraud(transaction: TransactionRequest):
         ]])
         
         # 예측 수행
-        prediction = model.predict(features)[0]
-        probability = model.predict_proba(features)[0][1]
+        prediction = current.model.predict(features)[0]
+        probability = current.model.predict_proba(features)[0][1]
         
         logger.info(f"예측 완료 - 이상거래: {bool(prediction)}, 확률: {probability:.3f}")
         
         return {
             "is_fraud": bool(prediction),
             "fraud_probability": float(probability),
-            "risk_level": get_risk_level(probability),
+            "risk_level": get_risk_level(probability, current.risk_thresholds),
+            "model_version": current.version,
             "timestamp": datetime.now().isoformat()
         }
     
@@ -222,42 +305,46 @@ async def batch_predict_fraud(batch_request: BatchTransactionRequest):
     - **한 번에 최대 1000건 처리**
     - **평균 처리 시간**: 100건당 1초
     """
-    if model is None:
+    current = loaded
+    if current is None:
         raise HTTPException(status_code=503, detail="모델이 로드되지 않았습니다")
     
     if len(batch_request.transactions) > 1000:
         raise HTTPException(status_code=400, detail="최대 1000건까지 처리 가능합니다")
     
     try:
-        results = []
+        # 전체 배치를 하나의 행렬로 변환하여 한 번에 예측
+        features = np.array([[
+            transaction.amount,
+            transaction.transaction_count_1h,
+            transaction.transaction_count_24h,
+            transaction.different_merchants_24h,
+            transaction.avg_transaction_amount,
+            transaction.time_since_last_transaction,
+            transaction.is_weekend,
+            transaction.is_night_time,
+            transaction.merchant_risk_score,
+            transaction.card_age_days,
+            transaction.transaction_velocity,
+            transaction.amount_deviation,
+            transaction.cross_border,
+            transaction.device_change,
+            transaction.ip_change
+        ] for transaction in batch_request.transactions]).reshape(-1, 15)
         
-        for transaction in batch_request.transactions:
-            features = np.array([[
-                transaction.amount,
-                transaction.transaction_count_1h,
-                transaction.transaction_count_24h,
-                transaction.different_merchants_24h,
-                transaction.avg_transaction_amount,
-                transaction.time_since_last_transaction,
-                transaction.is_weekend,
-                transaction.is_night_time,
-                transaction.merchant_risk_score,
-                transaction.card_age_days,
-                transaction.transaction_velocity,
-                transaction.amount_deviation,
-                transaction.cross_border,
-                transaction.device_change,
-                transaction.ip_change
-            ]])
-            
-            prediction = model.predict(features)[0]
-            probability = model.predict_proba(features)[0][1]
+        results = []
+        if len(features) > 0:
+            # predict()는 내부적으로 predict_proba를 다시 계산하므로 한 번의 결과로 둘 다 산출
+            probas = current.model.predict_proba(features)
+            predictions = current.model.classes_[np.argmax(probas, axis=1)]
+            probabilities = probas[:, 1]
             
-            results.append({
-                "is_fraud": bool(prediction),
-                "fraud_probability": float(probability),
-                "risk_level": get_risk_level(probability)
-            })
+            for prediction, probability in zip(predictions, probabilities):
+                results.append({
+                    "is_fraud": bool(prediction),
+                    "fraud_probability": float(probability),
+                    "risk_level": get_risk_level(probability, current.risk_thresholds)
+                })
         
         logger.info(f"배치 예측 완료 - {len(results)}건 처리")
         
@@ -265,6 +352,7 @@ async def batch_predict_fraud(batch_request: BatchTransactionRequest):
             "total_count": len(results),
             "fraud_count": sum(1 for r in results if r["is_fraud"]),
             "results": results,
+            "model_version": current.version,
             "timestamp": datetime.now().isoformat()
         }
     
@@ -272,6 +360,43 @@ async def batch_predict_fraud(batch_request: BatchTransactionRequest):
         logger.error(f"배치 예측 중 오류: {str(e)}")
         raise HTTPException(status_code=500, detail=f"예측 실패: {str(e)}")
 
+@app.post("/api/vector-predict")
+async def vector_predict_fraud(request: Request):
+    """
+    특성 벡터 예측 (MessagePack)
+    
+    - **요청**: 거래별 15개 특성(학습 순서 고정)의 2차원 배열, float32 권장
+    - **응답**: 거래별 이상거래 확률 배열 (float64), 모델 버전은 X-Model-Version 헤더
+    - 이상거래 여부(확률 > 0.5)와 위험도는 호출 측에서 확률로 판정
+    - 단건도 길이 1인 배열로 요청
+    """
+    current = loaded
+    if current is None:
+        raise HTTPException(status_code=503, detail="모델이 로드되지 않았습니다")
+    
+    try:
+        rows = msgpack.unpackb(await request.body())
+        # 모델은 내부적으로 float32로 비교하므로 float32 입력은 JSON 경로와 같은 결과를 냄
+        features = np.asarray(rows, dtype=np.float32)
+    except (ValueError, TypeError, msgpack.exceptions.UnpackException, msgpack.exceptions.ExtraData) as e:
+        raise HTTPException(status_code=400, detail=f"잘못된 요청 형식: {str(e)}")
+    
+    if features.ndim != 2 or features.shape[1] != N_FEATURES:
+        raise HTTPException(status_code=400, detail=f"요청은 (N, {N_FEATURES}) 형태여야 합니다")
+    if len(features) > MAX_BATCH_SIZE:
+        raise HTTPException(status_code=400, detail=f"최대 {MAX_BATCH_SIZE}건까지 처리 가능합니다")
+    
+    try:
+        probabilities = current.model.predict_proba(features)[:, 1] if len(features) > 0 else np.empty(0)
+    except Exception as e:
+        logger.error(f"벡터 예측 중 오류: {str(e)}")
+        raise HTTPException(status_code=500, detail=f"예측 실패: {str(e)}")
+    
+    # 버전을 모르면 헤더를 생략하여 백엔드가 자체 모델 버전을 사용하도록 함
+    headers = {MODEL_VERSION_HEADER: current.version} if current.version else {}
+    return Response(content=msgpack.packb(probabilities.tolist()), media_type=MSGPACK_MEDIA_TYPE,
+                    headers=headers)
+
 if __name__ == "__main__":
     import uvicorn
     uvicorn.run(app, host="0.0.0.0", port=8000)
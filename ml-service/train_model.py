@@ -12,6 +12,9 @@ import joblib
 import json
 from datetime import datetime
 
+# 위험도 레벨 경계 (LOW < medium <= MEDIUM < high <= HIGH), 모델 메타데이터에 함께 저장
+RISK_THRESHOLDS = {'medium': 0.3, 'high': 0.7}
+
 def generate_sample_data(n_samples=10000):
     """
     샘플 거래 데이터 생성
@@ -71,6 +74,57 @@ def generate_sample_data(n_samples=10000):
     
     return df
 
+def export_forest(model, feature_names, model_version, risk_thresholds, path='model_trees.json'):
+    """
+    Random Forest를 평탄화된 트리 배열(JSON)로 내보내기
+    백엔드 내장 스코어러(ml.engine=embedded)가 이 파일을 로드하여 JVM 내에서 추론
+    """
+    fraud_index = list(model.classes_).index(1.0)
+    trees = []
+    for estimator in model.estimators_:
+        tree = estimator.tree_
+        values = tree.value[:, 0, :]
+        totals = values.sum(axis=1)
+        # 리프 노드의 클래스 비율 = 개별 트리의 predict_proba
+        fraud_proba = np.divide(values[:, fraud_index], totals,
+                                out=np.zeros_like(totals), where=totals > 0)
+        trees.append({
+            'children_left': tree.children_left.tolist(),
+            'children_right': tree.children_right.tolist(),
+            'feature': tree.feature.tolist(),
+            'threshold': tree.threshold.tolist(),
+            'value': fraud_proba.tolist()
+        })
+
+    with open(path, 'w', encoding='utf-8') as f:
+        json.dump({
+            'model_type': 'RandomForestClassifier',
+            'model_version': model_version,
+            'risk_thresholds': risk_thresholds,
+            'feature_names': list(feature_names),
+            'n_features': len(feature_names),
+            'trees': trees
+        }, f)
+
+    return trees
+
+def predict_exported(trees, X):
+    """
+    내보낸 트리 배열로 이상거래 확률 계산 (백엔드 내장 스코어러와 동일한 알고리즘)
+    scikit-learn과 동일하게 특성을 float32로 변환한 뒤 임계값과 비교
+    """
+    X = np.asarray(X, dtype=np.float32)
+    probabilities = np.zeros(len(X))
+    for tree in trees:
+        left, right = tree['children_left'], tree['children_right']
+        feature, threshold, value = tree['feature'], tree['threshold'], tree['value']
+        for i, row in enumerate(X):
+            node = 0
+            while left[node] != -1:
+                node = left[node] if row[feature[node]] <= threshold[node] else right[node]
+            probabilities[i] += value[node]
+    return probabilities / len(trees)
+
 def train_model():
     """
     Random Forest 모델 학습 및 저장
@@ -158,12 +212,16 @@ def train_model():
     print("\n모델 저장 중...")
     joblib.dump(model, 'fraud_detection_model.pkl')
     
-    # 메타데이터 저장
+    # 메타데이터 저장 (버전은 학습 시각, 위험도 임계값은 모델과 함께 교체)
+    trained_at = datetime.now()
+    model_version = trained_at.strftime('%Y%m%d-%H%M%S')
     metadata = {
         'model_type': 'RandomForestClassifier',
+        'model_version': model_version,
+        'risk_thresholds': RISK_THRESHOLDS,
         'n_estimators': 200,
         'max_depth': 20,
-        'training_date': datetime.now().isoformat(),
+        'training_date': trained_at.isoformat(),
         'accuracy': float(accuracy),
         'precision': float(precision),
         'recall': float(recall),
@@ -175,8 +233,15 @@ def train_model():
     with open('model_metadata.json', 'w', encoding='utf-8') as f:
         json.dump(metadata, f, indent=2, ensure_ascii=False)
     
+    # 내장 스코어러용 트리 배열 내보내기 및 확률 일치 검증
+    trees = export_forest(model, X.columns, model_version, RISK_THRESHOLDS)
+    max_diff = np.abs(predict_exported(trees, X_test) - y_pred_proba).max()
+    if max_diff > 1e-9:
+        raise RuntimeError(f"내보낸 트리의 예측 확률이 원본 모델과 다릅니다 (최대 오차: {max_diff})")
+    
     print("✓ 모델 저장 완료: fraud_detection_model.pkl")
     print("✓ 메타데이터 저장 완료: model_metadata.json")
+    print(f"✓ 트리 배열 저장 완료: model_trees.json (원본 대비 최대 오차: {max_diff:.2e})")
     print("\n" + "=" * 80)
     print("학습 완료")
     print("=" * 80)